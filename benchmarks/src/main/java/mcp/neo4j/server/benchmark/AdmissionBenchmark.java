@@ -0,0 +1,61 @@
+package mcp.neo4j.server.benchmark;
+
+import mcp.neo4j.server.service.AdmissionControl;
+import mcp.neo4j.server.service.Databases;
+import org.neo4j.driver.AccessMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 19:00
+ * @description Cost of admission control under contention: 16 threads acquire and release permits for a
+ * short simulated call, with fewer or more slots than threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class AdmissionBenchmark {
+
+    private static final String[] CLIENTS = {"client-1", "client-2", "client-3", "client-4"};
+
+    @Param({"true", "false"})
+    public boolean enabled;
+
+    @Param({"8", "64"})
+    public int maxConcurrent;
+
+    private AdmissionControl admission;
+
+    @Setup
+    public void setup() {
+        admission = new AdmissionControl(enabled, maxConcurrent, 0, 0, 0, 0, 10_000, Duration.ofSeconds(10),
+                new Databases("neo4j", List.of(), true));
+    }
+
+    @Benchmark
+    public void acquireAndRelease() {
+        try (AdmissionControl.Permit ignored = admission.acquireBlocking(AccessMode.READ, CLIENTS[(int) (Thread.currentThread().getId() % CLIENTS.length)], null)) {
+            Blackhole.consumeCPU(1_000);
+        }
+    }
+}
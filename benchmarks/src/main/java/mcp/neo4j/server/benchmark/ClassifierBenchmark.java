@@ -0,0 +1,95 @@
+package mcp.neo4j.server.benchmark;
+
+import mcp.neo4j.server.cypher.CypherClassifier;
+import mcp.neo4j.server.cypher.CypherFingerprint;
+import mcp.neo4j.server.cypher.CypherParameterizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 19:00
+ * @description Query text analysis run on every tool call: read/write classification with the lexer, with its
+ * cache and with the keyword regex it replaced, and fingerprinting and literal extraction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClassifierBenchmark {
+
+    // The keyword check isWriteQuery used before the lexer-based classifier
+    private static final Pattern WRITE_QUERY_PATTERN = Pattern.compile(
+            "\\b(MERGE|CREATE|SET|DELETE|REMOVE|ADD)\\b", Pattern.CASE_INSENSITIVE
+    );
+
+    private static final Map<String, String> QUERIES = Map.of(
+            "lookup", "MATCH (p:Person {id: $id}) RETURN p",
+            "write", "MERGE (p:Person {id: $id}) SET p.name = $name, p.updated = datetime() RETURN p",
+            "report", """
+                    // Customers who ordered products of a category, with their latest orders
+                    MATCH (c:Customer)-[:PLACED]->(o:Order)-[:CONTAINS]->(p:Product)-[:IN_CATEGORY]->(cat:Category)
+                    WHERE cat.name IN ['Beverages', 'Condiments', 'Confections'] AND o.status <> 'created'
+                      AND c.note CONTAINS 'set aside for delete review' AND o.date >= date('2024-01-01')
+                    WITH c, cat, o ORDER BY o.date DESC
+                    WITH c, cat, collect(o)[0..5] AS latest, count(o) AS orders
+                    OPTIONAL MATCH (c)-[:LIVES_IN]->(city:City)
+                    RETURN c.name AS customer, city.name AS city, cat.name AS category, orders,
+                           [o IN latest | {id: o.id, date: toString(o.date), total: o.total}] AS latestOrders
+                    ORDER BY orders DESC, customer
+                    LIMIT 100
+                    """
+    );
+
+    @Param({"lookup", "write", "report"})
+    public String query;
+
+    private String text;
+    private CypherClassifier classifier;
+
+    @Setup
+    public void setup() {
+        text = QUERIES.get(query);
+        classifier = new CypherClassifier(10_000);
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return WRITE_QUERY_PATTERN.matcher(text).find();
+    }
+
+    @Benchmark
+    public CypherClassifier.Classification scan() {
+        return CypherClassifier.scan(text);
+    }
+
+    @Benchmark
+    public CypherClassifier.QueryKind cached() {
+        return classifier.classify(text);
+    }
+
+    @Benchmark
+    public String fingerprint() {
+        return CypherFingerprint.normalize(text);
+    }
+
+    @Benchmark
+    public CypherParameterizer.Parameterized parameterize() {
+        return CypherParameterizer.parameterize(text, Map.of());
+    }
+}
@@ -0,0 +1,105 @@
+package mcp.neo4j.server.benchmark;
+
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 23:30
+ * @description Bursts of concurrent {@code read-neo4j-cypher} lookups through the tool registrations the async MCP
+ * server sees, for each execution mode: blocking tools on the bounded-elastic scheduler, blocking tools on virtual
+ * threads, and the reactive driver path. Every call of a burst is in flight at once; admission control lets 64 of
+ * them run and queues the others, holding a thread per waiting call only in the bounded-elastic mode.
+ * The virtual-thread mode needs Java 21; run with {@code -Pjava21} on a Java 21 JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ConcurrencyBenchmark {
+
+    private static final String LOOKUP = "MATCH (p:Person {id: $id}) RETURN p.id AS id, p.name AS name, p.age AS age";
+
+    // bounded-elastic is the blocking execution mode
+    @Param({"bounded-elastic", "virtual-threads", "reactive"})
+    public String mode;
+
+    @Param({"1000", "5000", "10000"})
+    public int calls;
+
+    private EmbeddedServer server;
+    private Function<Map<String, Object>, Mono<McpSchema.CallToolResult>> read;
+
+    @Setup
+    public void setup() {
+        String executionMode = mode.equals("bounded-elastic") ? "blocking" : mode;
+        // The default number of calls runs at once and the rest of the burst waits for admission, as the driver's own
+        // queue of pending connection acquisitions is too short for it. The slow-query log stays off, as waiting
+        // calls would pass its threshold and fetch a plan each.
+        server = new EmbeddedServer("logging.level.mcp.neo4j.server=warn",
+                "neo4j.execution-mode=" + executionMode,
+                "neo4j.admission.max-per-client=0",
+                "neo4j.admission.queue-size=" + calls,
+                "neo4j.admission.max-wait=60s",
+                "neo4j.query.slow-threshold=0");
+        List<McpServerFeatures.AsyncToolRegistration> registrations = switch (executionMode) {
+            case "blocking" -> registrations("neo4jTools");
+            case "virtual-threads" -> registrations("neo4jVirtualThreadTools");
+            default -> registrations("neo4jReactiveTools");
+        };
+        read = registrations.stream()
+                .filter(registration -> registration.tool().name().equals("read-neo4j-cypher"))
+                .findFirst()
+                .orElseThrow()
+                .call();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<McpServerFeatures.AsyncToolRegistration> registrations(String bean) {
+        return server.bean(bean, List.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public long burst() {
+        return Flux.range(0, calls)
+                .flatMap(i -> read.apply(Map.of("query", LOOKUP, "params", Map.of("id", randomId()))), calls)
+                .doOnNext(result -> {
+                    if (Boolean.TRUE.equals(result.isError())) {
+                        throw new IllegalStateException("Tool call failed: " + result.content());
+                    }
+                })
+                .count()
+                .block();
+    }
+
+    private static int randomId() {
+        return ThreadLocalRandom.current().nextInt(1, EmbeddedServer.PEOPLE + 1);
+    }
+}
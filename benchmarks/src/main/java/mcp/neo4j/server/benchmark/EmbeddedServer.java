@@ -0,0 +1,62 @@
+package mcp.neo4j.server.benchmark;
+
+import mcp.neo4j.server.McpNeo4jServerApplication;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 19:00
+ * @description An in-process Neo4j holding {@value #PEOPLE} {@code :Person} nodes, plus the server's Spring context
+ * connected to it over bolt. The HTTP connector of Neo4j and the web server of the application stay off.
+ */
+final class EmbeddedServer implements AutoCloseable {
+
+    static final int PEOPLE = 10_000;
+
+    private final Neo4j neo4j;
+    private final ConfigurableApplicationContext context;
+
+    /**
+     * @param properties Additional application properties as {@code key=value}.
+     */
+    EmbeddedServer(String... properties) {
+        this.neo4j = Neo4jBuilders.newInProcessBuilder()
+                .withDisabledServer()
+                .withFixture("CREATE INDEX person_id FOR (p:Person) ON (p.id)")
+                .withFixture("UNWIND range(1, " + PEOPLE + ") AS id CREATE (:Person {id: id, name: 'person ' + id, age: id % 90})")
+                .build();
+        // Passed as command line arguments, which take precedence over application.yml
+        List<String> arguments = new ArrayList<>(List.of(
+                "--neo4j.uri=" + neo4j.boltURI(),
+                "--neo4j.username=neo4j",
+                "--neo4j.password=neo4j",
+                "--neo4j.database=neo4j"));
+        for (String property : properties) {
+            arguments.add("--" + property);
+        }
+        this.context = new SpringApplicationBuilder(McpNeo4jServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(arguments.toArray(String[]::new));
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    <T> T bean(String name, Class<T> type) {
+        return context.getBean(name, type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        neo4j.close();
+    }
+}
@@ -0,0 +1,75 @@
+package mcp.neo4j.server.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import mcp.neo4j.server.json.RawJson;
+import mcp.neo4j.server.service.Neo4jService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 19:00
+ * @description Throughput of concurrent lookups with the application logging at INFO, at DEBUG (query text
+ * included) and switched off, through the async appenders; {@link Sync} repeats it with {@code -Dlog.mode=sync}.
+ * Only the file appender is kept so that the forked JVM does not flood the JMH console.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = "-Dlog.mode=async")
+public class LoggingBenchmark {
+
+    private static final String LOOKUP = "MATCH (p:Person {id: $id}) RETURN p.id AS id, p.name AS name";
+
+    @Param({"INFO", "DEBUG", "OFF"})
+    public String level;
+
+    private EmbeddedServer server;
+    private Neo4jService service;
+
+    @Setup
+    public void setup() {
+        server = new EmbeddedServer();
+        service = server.bean(Neo4jService.class);
+        Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAppender("async-console");
+        root.detachAppender("sync-console");
+        Logger application = (Logger) LoggerFactory.getLogger("mcp.neo4j.server");
+        application.setLevel(Level.toLevel(level));
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public RawJson lookup() {
+        int id = ThreadLocalRandom.current().nextInt(1, EmbeddedServer.PEOPLE + 1);
+        return service.neo4jRead(LOOKUP, Map.of("id", id), null, null, null, null, null);
+    }
+
+    @Fork(value = 1, jvmArgsAppend = "-Dlog.mode=sync")
+    public static class Sync extends LoggingBenchmark {
+    }
+}
@@ -0,0 +1,94 @@
+package mcp.neo4j.server.benchmark;
+
+import mcp.neo4j.server.json.RawJson;
+import mcp.neo4j.server.service.Neo4jService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 19:00
+ * @description End-to-end tool calls against an in-process Neo4j: an indexed lookup, a 1000-row page and a write,
+ * through the blocking tool methods and the reactive driver path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class QueryBenchmark {
+
+    private static final String LOOKUP = "MATCH (p:Person {id: $id}) RETURN p.id AS id, p.name AS name, p.age AS age";
+    private static final String PAGE = "MATCH (p:Person) WHERE p.id > $from RETURN p.id AS id, p.name AS name, p.age AS age ORDER BY id LIMIT 1000";
+    private static final String WRITE = "MERGE (c:Counter {id: $id}) SET c.value = coalesce(c.value, 0) + 1";
+
+    @Param({"objects", "columnar"})
+    public String format;
+
+    // 0 leaves the fetch size to the server
+    @Param({"0", "100", "2000"})
+    public int fetchSize;
+
+    private EmbeddedServer server;
+    private Neo4jService service;
+
+    @Setup
+    public void setup() {
+        // Logging costs are measured by LoggingBenchmark
+        server = new EmbeddedServer("logging.level.mcp.neo4j.server=warn");
+        service = server.bean(Neo4jService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public RawJson lookup() {
+        return service.neo4jRead(LOOKUP, Map.of("id", randomId()), format, fetchSize(), null, null, null);
+    }
+
+    @Benchmark
+    public RawJson page() {
+        return service.neo4jRead(PAGE, Map.of("from", randomId() / 2), format, fetchSize(), null, null, null);
+    }
+
+    @Benchmark
+    public RawJson lookupReactive() {
+        return service.neo4jReadReactive(LOOKUP, Map.of("id", randomId()), format, fetchSize(), null, null, null).block();
+    }
+
+    @Benchmark
+    public RawJson pageReactive() {
+        return service.neo4jReadReactive(PAGE, Map.of("from", randomId() / 2), format, fetchSize(), null, null, null).block();
+    }
+
+    @Benchmark
+    public RawJson write() {
+        return service.neo4jWrite(WRITE, Map.of("id", randomId() % 100), null, null, null);
+    }
+
+    private Integer fetchSize() {
+        return fetchSize > 0 ? fetchSize : null;
+    }
+
+    private static int randomId() {
+        return ThreadLocalRandom.current().nextInt(1, EmbeddedServer.PEOPLE + 1);
+    }
+}
@@ -0,0 +1,86 @@
+package mcp.neo4j.server.benchmark;
+
+import mcp.neo4j.server.json.RawJson;
+import mcp.neo4j.server.json.RecordJsonWriter;
+import mcp.neo4j.server.json.ResultFormat;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.types.MapAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.util.json.JsonParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 19:00
+ * @description Turning driver records into the JSON text of a tool result: streaming them through
+ * {@link RecordJsonWriter} in each result format, against converting them to maps first and serializing
+ * the maps with Jackson as the read tool originally did.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordSerializationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Records {
+
+        @Param({"10", "1000"})
+        public int rows;
+
+        private final List<String> keys = List.of("id", "name", "city", "scores", "person");
+        private List<Record> records;
+
+        @Setup
+        public void setup() {
+            records = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                Value person = Values.value(Map.of("id", i, "name", "person " + i, "active", i % 2 == 0));
+                records.add(new InternalRecord(keys, new Value[]{
+                        Values.value(i),
+                        Values.value("person " + i),
+                        // Few distinct values, as dictionary encoding expects
+                        Values.value("city " + i % 20),
+                        Values.value(List.of(i * 0.5, i * 1.5, i * 2.5)),
+                        person
+                }));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Format {
+
+        @Param({"objects", "columnar", "dictionary"})
+        public String format;
+    }
+
+    @Benchmark
+    public String mapsWithJackson(Records records) {
+        List<Map<String, Object>> maps = records.records.stream().map(MapAccessor::asMap).toList();
+        return JsonParser.toJson(maps);
+    }
+
+    @Benchmark
+    public RawJson recordJsonWriter(Records records, Format format) {
+        return RecordJsonWriter.records(ResultFormat.parse(format.format), records.keys, records.records);
+    }
+}
@@ -0,0 +1,240 @@
+package mcp.neo4j.server.cypher;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 11:30
+ * @description Classifies Cypher queries as read or write in a single pass over the tokens of the query.
+ * String literals, comments, escaped names, property keys, labels, map keys and variables never count as clauses.
+ * Administration commands such as {@code START DATABASE} only count when followed by the object they act on,
+ * so a variable named {@code start} is not taken for one.
+ * The same pass detects queries that manage their own transactions and must run in auto-commit mode.
+ * Results are cached per query text.
+ */
+@Component
+public class CypherClassifier {
+
+    public enum QueryKind {
+        /** The query only reads. */
+        READ,
+        /** The query contains an updating, schema or administration clause. */
+        WRITE,
+        /** The query calls a procedure or loads CSV whose effects cannot be told from the text alone. */
+        UNKNOWN
+    }
+
+    private static final Set<String> WRITE_CLAUSES = Set.of(
+            "CREATE", "INSERT", "MERGE", "SET", "DELETE", "DETACH", "REMOVE", "DROP", "ALTER", "RENAME", "GRANT", "DENY", "REVOKE"
+    );
+
+    // Administration commands whose first word is also a common variable name, e.g. START DATABASE or
+    // TERMINATE TRANSACTIONS; they only count as writes when followed by the object they act on
+    private static final Set<String> ADMINISTRATION_COMMANDS = Set.of(
+            "START", "STOP", "TERMINATE", "ENABLE", "DEALLOCATE", "REALLOCATE"
+    );
+
+    private static final Set<String> ADMINISTRATION_OBJECTS = Set.of(
+            "DATABASE", "DATABASES", "TRANSACTION", "TRANSACTIONS", "SERVER"
+    );
+
+    // Procedures known not to write, matched against the lower-cased qualified name
+    private static final List<String> READ_PROCEDURE_PREFIXES = List.of(
+            "db.labels", "db.relationshiptypes", "db.propertykeys", "db.schema.", "db.indexes", "db.constraints",
+            "db.info", "db.ping", "db.stats.retrieve", "db.index.fulltext.query", "db.index.vector.query",
+            "dbms.components", "dbms.procedures", "dbms.functions", "dbms.listconfig", "dbms.showcurrentuser",
+            "dbms.cluster.overview", "dbms.routing.", "apoc.meta.", "apoc.help", "apoc.path.", "apoc.neighbors.",
+            "apoc.coll.", "apoc.map.", "apoc.text.", "apoc.convert.", "apoc.date.", "apoc.temporal.",
+            "apoc.algo."
+    );
+
+    // Procedures known not to write whose names are prefixes of writing ones, e.g. apoc.load.jdbc and
+    // apoc.load.jdbcUpdate, matched against the whole lower-cased qualified name
+    private static final Set<String> READ_PROCEDURES = Set.of(
+            "apoc.load.json", "apoc.load.jsonarray", "apoc.load.jsonparams", "apoc.load.csv", "apoc.load.csvparams",
+            "apoc.load.xml", "apoc.load.html", "apoc.load.htmlplaintext", "apoc.load.jdbc", "apoc.load.ldap",
+            "apoc.load.directory", "apoc.load.arrow", "apoc.load.arrow.stream", "apoc.load.parquet",
+            "apoc.load.avro", "apoc.load.xls"
+    );
+
+    // Procedures that write although no segment of their name says so
+    private static final Set<String> WRITE_PROCEDURES = Set.of(
+            "apoc.load.jdbcupdate"
+    );
+
+    // Procedures that run arbitrary Cypher passed in as a string, so their effects are unknown
+    private static final List<String> DYNAMIC_PROCEDURE_PREFIXES = List.of(
+            "apoc.cypher.", "apoc.periodic.", "apoc.do.", "apoc.when", "apoc.case"
+    );
+
+    // Name segments that mark a procedure as writing, e.g. apoc.create.node or gds.pageRank.write
+    private static final List<String> WRITE_PROCEDURE_VERBS = List.of(
+            "create", "merge", "set", "delete", "remove", "add", "drop", "write", "mutate",
+            "refresh", "import", "clear", "rename", "clone", "kill", "terminate"
+    );
+
+    private static final Set<String> READ_PROCEDURE_MODES = Set.of("stream", "stats", "estimate");
+
+    /**
+     * @param kind       Whether the query reads, writes or cannot be told from its text
+     * @param autoCommit Whether the query uses CALL { ... } IN TRANSACTIONS or PERIODIC COMMIT and
+     *                   therefore cannot run inside a transaction function
+     */
+    public record Classification(QueryKind kind, boolean autoCommit) {
+    }
+
+    private final Cache<String, Classification> classifications;
+
+    /**
+     * @param cacheSize Maximum number of distinct query texts whose classification is cached
+     */
+    public CypherClassifier(@Value("${neo4j.query.classifier-cache-size:10000}") long cacheSize) {
+        this.classifications = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    /**
+     * Classify a query, using the cached result for query texts seen before.
+     *
+     * @param query The Cypher query string.
+     * @return The kind of the query.
+     */
+    public QueryKind classify(String query) {
+        return analyze(query).kind();
+    }
+
+    /**
+     * @param query The Cypher query string.
+     * @return true if the query must run in an auto-commit transaction.
+     */
+    public boolean requiresAutoCommit(String query) {
+        return analyze(query).autoCommit();
+    }
+
+    /**
+     * Analyze a query, using the cached result for query texts seen before.
+     *
+     * @param query The Cypher query string.
+     * @return The classification of the query.
+     */
+    public Classification analyze(String query) {
+        return classifications.get(query, CypherClassifier::scan);
+    }
+
+    /**
+     * Analyze a query without consulting the cache.
+     *
+     * @param query The Cypher query string.
+     * @return The classification of the query.
+     */
+    public static Classification scan(String query) {
+        CypherLexer lexer = new CypherLexer(query);
+        QueryKind kind = QueryKind.READ;
+        boolean autoCommit = false;
+        char previousSymbol = 0;
+        boolean administrationCommand = false;
+        while (lexer.next() != CypherLexer.TokenType.EOF) {
+            boolean afterAdministrationCommand = administrationCommand;
+            administrationCommand = false;
+            if (lexer.type() == CypherLexer.TokenType.SYMBOL) {
+                previousSymbol = lexer.symbol();
+                continue;
+            }
+            char before = previousSymbol;
+            previousSymbol = 0;
+            // Property access, labels and relationship types, map keys, and variables such as (set) or set.value are never clauses
+            if (lexer.type() != CypherLexer.TokenType.WORD || before == '.' || before == ':' || before == '('
+                    || lexer.peekChar() == ':' || lexer.peekChar() == '.' || lexer.peekChar() == ')' || lexer.peekChar() == ',') {
+                continue;
+            }
+            String word = lexer.text().toUpperCase(Locale.ROOT);
+            if (afterAdministrationCommand && ADMINISTRATION_OBJECTS.contains(word)) {
+                kind = QueryKind.WRITE;
+            }
+            if (lexer.is("CALL")) {
+                if (lexer.peekChar() == '{') {
+                    // Subquery: its clauses are scanned like the rest of the query
+                    continue;
+                }
+                kind = combine(kind, classifyProcedure(readQualifiedName(lexer)));
+                previousSymbol = lexer.type() == CypherLexer.TokenType.SYMBOL ? lexer.symbol() : 0;
+            } else if (lexer.is("LOAD")) {
+                if (lexer.next() == CypherLexer.TokenType.WORD && lexer.is("CSV")) {
+                    kind = combine(kind, QueryKind.UNKNOWN);
+                }
+            } else if (lexer.is("IN") || lexer.is("PERIODIC")) {
+                CypherLexer.TokenType next = lexer.next();
+                // IN [n] CONCURRENT TRANSACTIONS runs the batches in parallel; only consume what belongs to it
+                if ((next == CypherLexer.TokenType.NUMBER || next == CypherLexer.TokenType.PARAMETER) && lexer.peekIs("CONCURRENT")) {
+                    lexer.next();
+                }
+                if (lexer.is("CONCURRENT") && lexer.peekIs("TRANSACTIONS")) {
+                    lexer.next();
+                }
+                if (lexer.is("TRANSACTIONS") || lexer.is("COMMIT")) {
+                    autoCommit = true;
+                }
+            } else if (WRITE_CLAUSES.contains(word)) {
+                kind = QueryKind.WRITE;
+            } else if (ADMINISTRATION_COMMANDS.contains(word)) {
+                administrationCommand = true;
+            }
+        }
+        return new Classification(kind, autoCommit);
+    }
+
+    private static QueryKind combine(QueryKind current, QueryKind next) {
+        return current == QueryKind.WRITE || next == QueryKind.WRITE ? QueryKind.WRITE
+                : current == QueryKind.UNKNOWN || next == QueryKind.UNKNOWN ? QueryKind.UNKNOWN
+                : QueryKind.READ;
+    }
+
+    private static String readQualifiedName(CypherLexer lexer) {
+        StringBuilder name = new StringBuilder();
+        while (lexer.next() == CypherLexer.TokenType.WORD || lexer.type() == CypherLexer.TokenType.QUOTED_NAME) {
+            name.append(lexer.text().toLowerCase(Locale.ROOT));
+            if (lexer.next() != CypherLexer.TokenType.SYMBOL || lexer.symbol() != '.') {
+                break;
+            }
+            name.append('.');
+        }
+        return name.toString();
+    }
+
+    private static QueryKind classifyProcedure(String name) {
+        if (READ_PROCEDURES.contains(name)) {
+            return QueryKind.READ;
+        }
+        if (WRITE_PROCEDURES.contains(name)) {
+            return QueryKind.WRITE;
+        }
+        for (String prefix : DYNAMIC_PROCEDURE_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return QueryKind.UNKNOWN;
+            }
+        }
+        for (String prefix : READ_PROCEDURE_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return QueryKind.READ;
+            }
+        }
+        String[] segments = name.split("\\.");
+        for (String segment : segments) {
+            for (String verb : WRITE_PROCEDURE_VERBS) {
+                if (segment.startsWith(verb)) {
+                    return QueryKind.WRITE;
+                }
+            }
+        }
+        if (segments.length > 1 && READ_PROCEDURE_MODES.contains(segments[segments.length - 1])) {
+            return QueryKind.READ;
+        }
+        return QueryKind.UNKNOWN;
+    }
+}
@@ -0,0 +1,97 @@
+package mcp.neo4j.server.cypher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 18:30
+ * @description Normalizes a Cypher query into a fingerprint shared by all queries that only differ in their
+ * literal values, whitespace or comments. String and number literals become {@code ?}, lists of literals
+ * collapse into {@code [?]} and every run of whitespace or comments becomes a single space.
+ */
+public final class CypherFingerprint {
+
+    private CypherFingerprint() {
+    }
+
+    /**
+     * @param query The Cypher query string.
+     * @return The normalized query text.
+     */
+    public static String normalize(String query) {
+        CypherLexer lexer = new CypherLexer(query);
+        StringBuilder fingerprint = new StringBuilder(query.length());
+        StringBuilder openBrackets = new StringBuilder();
+        int previousEnd = -1;
+        while (lexer.next() != CypherLexer.TokenType.EOF) {
+            CypherLexer.TokenType type = lexer.type();
+            if (type == CypherLexer.TokenType.SYMBOL) {
+                trackBrackets(openBrackets, lexer.symbol());
+            }
+            boolean literal = type == CypherLexer.TokenType.STRING || type == CypherLexer.TokenType.NUMBER;
+            boolean inList = !openBrackets.isEmpty() && openBrackets.charAt(openBrackets.length() - 1) == '[';
+            if (literal && inList && endsWithLiteralListItem(fingerprint)) {
+                // [1, 2, 3] and [1] share one fingerprint
+                fingerprint.setLength(fingerprint.lastIndexOf("?") + 1);
+            } else {
+                if (previousEnd >= 0 && lexer.start() > previousEnd) {
+                    fingerprint.append(' ');
+                }
+                if (literal) {
+                    fingerprint.append('?');
+                } else {
+                    fingerprint.append(query, lexer.start(), lexer.end());
+                }
+            }
+            previousEnd = lexer.end();
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * @param query The Cypher query string.
+     * @return The string and number literals that {@link #normalize(String)} replaces, as written and in query order.
+     * Together with the fingerprint they identify the query up to whitespace and comments.
+     */
+    public static List<String> literals(String query) {
+        CypherLexer lexer = new CypherLexer(query);
+        List<String> literals = new ArrayList<>();
+        while (lexer.next() != CypherLexer.TokenType.EOF) {
+            if (lexer.type() == CypherLexer.TokenType.STRING || lexer.type() == CypherLexer.TokenType.NUMBER) {
+                literals.add(lexer.text());
+            }
+        }
+        return literals;
+    }
+
+    /**
+     * @param fingerprint A normalized query text.
+     * @return A short, stable identifier of the fingerprint for log lines: 16 hex digits of its FNV-1a hash.
+     */
+    public static String id(String fingerprint) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < fingerprint.length(); i++) {
+            hash ^= fingerprint.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return String.format("%016x", hash);
+    }
+
+    private static void trackBrackets(StringBuilder openBrackets, char symbol) {
+        if (symbol == '[' || symbol == '(' || symbol == '{') {
+            openBrackets.append(symbol);
+        } else if ((symbol == ']' || symbol == ')' || symbol == '}') && !openBrackets.isEmpty()) {
+            openBrackets.setLength(openBrackets.length() - 1);
+        }
+    }
+
+    private static boolean endsWithLiteralListItem(StringBuilder fingerprint) {
+        int length = fingerprint.length();
+        if (length >= 2 && fingerprint.charAt(length - 1) == ',' && fingerprint.charAt(length - 2) == '?') {
+            return true;
+        }
+        return length >= 3 && fingerprint.charAt(length - 1) == ' ' && fingerprint.charAt(length - 2) == ','
+                && fingerprint.charAt(length - 3) == '?';
+    }
+}
@@ -0,0 +1,149 @@
+package mcp.neo4j.server.cypher;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 23:45
+ * @description Finds the node labels and relationship types a query names, as a coarse estimate of the data it
+ * reads or writes. The estimate is complete only if every node and relationship pattern of the query names a label
+ * or type and the query neither calls procedures nor uses SHOW or USE; a pattern such as {@code (n)} or
+ * {@code -[r]->} may stand for any data. Queries calling functions such as {@code rand()} or {@code datetime()},
+ * or reading files with LOAD CSV, are marked as not deterministic. Parenthesized expressions are taken for node
+ * patterns, which errs on the side of an incomplete estimate.
+ */
+public final class CypherFootprint {
+
+    // Words after which an opening parenthesis starts a node pattern rather than a function call
+    private static final Set<String> PATTERN_WORDS = Set.of("MATCH", "MERGE", "CREATE", "INSERT", "WHERE", "AND", "OR", "XOR", "NOT", "EXISTS");
+
+    // Words before which an opening brace starts a subquery rather than a map
+    private static final Set<String> SUBQUERY_WORDS = Set.of("CALL", "EXISTS", "COUNT", "COLLECT");
+
+    private static final Set<String> NONDETERMINISTIC_FUNCTIONS = Set.of(
+            "rand", "randomuuid", "timestamp", "datetime", "localdatetime", "date", "time", "localtime"
+    );
+
+    /**
+     * @param labels        The labels and relationship types named by the query.
+     * @param complete      Whether the query touches no data beyond what these labels and types select.
+     * @param deterministic Whether running the query twice on the same data gives the same result.
+     */
+    public record Footprint(Set<String> labels, boolean complete, boolean deterministic) {
+    }
+
+    private CypherFootprint() {
+    }
+
+    /**
+     * @param query The Cypher query string.
+     * @return The footprint of the query.
+     */
+    public static Footprint scan(String query) {
+        CypherLexer lexer = new CypherLexer(query);
+        Set<String> labels = new HashSet<>();
+        boolean complete = true;
+        boolean deterministic = true;
+        // Open brackets, innermost last: n node pattern, r relationship pattern, e expression or list, m map, s subquery
+        StringBuilder brackets = new StringBuilder();
+        // Whether each open node or relationship pattern has named a label or type, in the same order as brackets
+        StringBuilder labelled = new StringBuilder();
+        CypherLexer.TokenType previousType = null;
+        char previousSymbol = 0;
+        String previousWord = null;
+        boolean labelExpected = false;
+        while (lexer.next() != CypherLexer.TokenType.EOF) {
+            CypherLexer.TokenType type = lexer.type();
+            char before = previousSymbol;
+            CypherLexer.TokenType beforeType = previousType;
+            String wordBefore = previousWord;
+            previousType = type;
+            previousSymbol = type == CypherLexer.TokenType.SYMBOL ? lexer.symbol() : 0;
+            previousWord = type == CypherLexer.TokenType.WORD && before != '.' ? lexer.text().toUpperCase(Locale.ROOT) : null;
+            char innermost = brackets.isEmpty() ? 0 : brackets.charAt(brackets.length() - 1);
+            if (labelExpected) {
+                labelExpected = false;
+                if (type == CypherLexer.TokenType.WORD || type == CypherLexer.TokenType.QUOTED_NAME) {
+                    labels.add(type == CypherLexer.TokenType.QUOTED_NAME ? unquote(lexer.text()) : lexer.text());
+                    if (innermost == 'n' || innermost == 'r') {
+                        labelled.setCharAt(labelled.length() - 1, 'y');
+                    }
+                    // Further names of a label expression such as :A|B or :A&B
+                    labelExpected = lexer.peekChar() == '|' || lexer.peekChar() == '&';
+                    if (labelExpected) {
+                        lexer.next();
+                        previousType = CypherLexer.TokenType.SYMBOL;
+                        previousSymbol = lexer.symbol();
+                    }
+                    continue;
+                }
+                if (type == CypherLexer.TokenType.SYMBOL && lexer.symbol() == ':') {
+                    // Relationship types written as [:A|:B]
+                    labelExpected = true;
+                    continue;
+                }
+                // Negated, wildcard or dynamic labels may match anything
+                complete = false;
+            }
+            if (type == CypherLexer.TokenType.SYMBOL) {
+                switch (lexer.symbol()) {
+                    case ':' -> labelExpected = innermost != 'm';
+                    case '(' -> {
+                        boolean call = beforeType == CypherLexer.TokenType.WORD && (wordBefore == null || !PATTERN_WORDS.contains(wordBefore))
+                                || beforeType == CypherLexer.TokenType.QUOTED_NAME;
+                        brackets.append(call ? 'e' : 'n');
+                        if (!call) {
+                            labelled.append('n');
+                        }
+                    }
+                    case '[' -> {
+                        boolean relationship = before == '-';
+                        brackets.append(relationship ? 'r' : 'e');
+                        if (relationship) {
+                            labelled.append('n');
+                        }
+                    }
+                    case '{' -> brackets.append(wordBefore != null && SUBQUERY_WORDS.contains(wordBefore) ? 's' : 'm');
+                    case ')', ']', '}' -> {
+                        if (innermost == 'n' || innermost == 'r') {
+                            complete &= labelled.charAt(labelled.length() - 1) == 'y';
+                            labelled.setLength(labelled.length() - 1);
+                        }
+                        if (!brackets.isEmpty()) {
+                            brackets.setLength(brackets.length() - 1);
+                        }
+                    }
+                    case '-' -> {
+                        // -- without brackets is a relationship of any type
+                        if (before == '-' && lexer.start() > 0 && query.charAt(lexer.start() - 1) == '-') {
+                            complete = false;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+                continue;
+            }
+            if (type != CypherLexer.TokenType.WORD || before == '.') {
+                continue;
+            }
+            if (lexer.is("CALL") && lexer.peekChar() != '{' || lexer.is("SHOW") || lexer.is("USE")) {
+                complete = false;
+                deterministic &= !lexer.is("USE");
+            } else if (lexer.is("LOAD")) {
+                deterministic = false;
+            } else if (NONDETERMINISTIC_FUNCTIONS.contains(lexer.text().toLowerCase(Locale.ROOT))
+                    && (lexer.peekChar() == '(' || lexer.peekChar() == '.')) {
+                deterministic = false;
+            }
+        }
+        return new Footprint(labels, complete, deterministic);
+    }
+
+    private static String unquote(String name) {
+        // An unterminated name reaches the end of the query without its closing backtick
+        return name.length() >= 2 && name.endsWith("`") ? name.substring(1, name.length() - 1) : name.substring(1);
+    }
+}
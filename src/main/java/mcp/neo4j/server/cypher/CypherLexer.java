@@ -0,0 +1,225 @@
+package mcp.neo4j.server.cypher;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 11:05
+ * @description Minimal single-pass Cypher tokenizer. It only distinguishes what the query analysis in this
+ * server needs: words, literals, parameters, escaped names and single-character symbols. Comments and
+ * whitespace are skipped. Tokens are exposed as offsets into the query text, so scanning allocates nothing.
+ */
+public final class CypherLexer {
+
+    public enum TokenType {
+        /** An unescaped identifier or keyword. */
+        WORD,
+        /** A single- or double-quoted string literal, quotes included. */
+        STRING,
+        /** An integer or floating point literal. */
+        NUMBER,
+        /** A parameter such as {@code $name} or {@code $0}. */
+        PARAMETER,
+        /** A backtick-escaped name. */
+        QUOTED_NAME,
+        /** Any other single character. */
+        SYMBOL,
+        EOF
+    }
+
+    private final String text;
+    private final int length;
+    private int pos;
+    private TokenType type;
+    private int start;
+    private int end;
+
+    public CypherLexer(String text) {
+        this.text = text;
+        this.length = text.length();
+    }
+
+    /**
+     * Advance to the next token.
+     *
+     * @return The type of the token now under the cursor.
+     */
+    public TokenType next() {
+        skipWhitespaceAndComments();
+        start = pos;
+        if (pos >= length) {
+            end = pos;
+            return type = TokenType.EOF;
+        }
+        char c = text.charAt(pos);
+        if (c == '\'' || c == '"') {
+            pos = skipQuoted(pos + 1, c, true);
+            type = TokenType.STRING;
+        } else if (c == '`') {
+            pos = skipQuoted(pos + 1, c, false);
+            type = TokenType.QUOTED_NAME;
+        } else if (c == '$') {
+            pos++;
+            if (pos < length && text.charAt(pos) == '`') {
+                pos = skipQuoted(pos + 1, '`', false);
+            } else {
+                while (pos < length && Character.isUnicodeIdentifierPart(text.charAt(pos))) {
+                    pos++;
+                }
+            }
+            type = TokenType.PARAMETER;
+        } else if (isDigit(c)) {
+            pos = skipNumber(pos);
+            type = TokenType.NUMBER;
+        } else if (Character.isUnicodeIdentifierStart(c) || c == '_') {
+            pos++;
+            while (pos < length && Character.isUnicodeIdentifierPart(text.charAt(pos))) {
+                pos++;
+            }
+            type = TokenType.WORD;
+        } else {
+            pos++;
+            type = TokenType.SYMBOL;
+        }
+        end = pos;
+        return type;
+    }
+
+    public TokenType type() {
+        return type;
+    }
+
+    public int start() {
+        return start;
+    }
+
+    public int end() {
+        return end;
+    }
+
+    /**
+     * @return The text of the current token.
+     */
+    public String text() {
+        return text.substring(start, end);
+    }
+
+    /**
+     * @return The character of the current {@link TokenType#SYMBOL} token.
+     */
+    public char symbol() {
+        return text.charAt(start);
+    }
+
+    /**
+     * Compare the current token with a keyword, ignoring case.
+     *
+     * @param keyword The keyword in upper case.
+     * @return true if the current token is a word equal to the keyword.
+     */
+    public boolean is(String keyword) {
+        return type == TokenType.WORD && end - start == keyword.length()
+                && text.regionMatches(true, start, keyword, 0, keyword.length());
+    }
+
+    /**
+     * Look at the first character after the current token, skipping whitespace but not comments.
+     *
+     * @return The next non-whitespace character, or 0 at the end of the query.
+     */
+    public char peekChar() {
+        int i = pos;
+        while (i < length && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i < length ? text.charAt(i) : 0;
+    }
+
+    /**
+     * Check whether the next token is a keyword, without advancing. Whitespace is skipped but not comments.
+     *
+     * @param keyword The keyword in upper case.
+     * @return true if the next token is a word equal to the keyword, ignoring case.
+     */
+    public boolean peekIs(String keyword) {
+        int i = pos;
+        while (i < length && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        int end = i + keyword.length();
+        return text.regionMatches(true, i, keyword, 0, keyword.length())
+                && (end >= length || !Character.isUnicodeIdentifierPart(text.charAt(end)));
+    }
+
+    private void skipWhitespaceAndComments() {
+        while (pos < length) {
+            char c = text.charAt(pos);
+            if (Character.isWhitespace(c)) {
+                pos++;
+            } else if (c == '/' && pos + 1 < length && text.charAt(pos + 1) == '/') {
+                while (pos < length && text.charAt(pos) != '\n') {
+                    pos++;
+                }
+            } else if (c == '/' && pos + 1 < length && text.charAt(pos + 1) == '*') {
+                int close = text.indexOf("*/", pos + 2);
+                pos = close < 0 ? length : close + 2;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private int skipQuoted(int i, char quote, boolean escapes) {
+        while (i < length) {
+            char c = text.charAt(i);
+            if (escapes && c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                // A doubled backtick is an escaped backtick inside the name
+                if (!escapes && i + 1 < length && text.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    private int skipNumber(int i) {
+        if (text.charAt(i) == '0' && i + 1 < length && (text.charAt(i + 1) == 'x' || text.charAt(i + 1) == 'X')) {
+            i += 2;
+            while (i < length && (Character.digit(text.charAt(i), 16) >= 0 || text.charAt(i) == '_')) {
+                i++;
+            }
+            return i;
+        }
+        while (i < length && (isDigit(text.charAt(i)) || text.charAt(i) == '_')) {
+            i++;
+        }
+        // A single dot followed by a digit is a fraction, "1..3" is a range
+        if (i + 1 < length && text.charAt(i) == '.' && isDigit(text.charAt(i + 1))) {
+            i++;
+            while (i < length && (isDigit(text.charAt(i)) || text.charAt(i) == '_')) {
+                i++;
+            }
+        }
+        if (i < length && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            int j = i + 1;
+            if (j < length && (text.charAt(j) == '+' || text.charAt(j) == '-')) {
+                j++;
+            }
+            if (j < length && isDigit(text.charAt(j))) {
+                i = j;
+                while (i < length && isDigit(text.charAt(i))) {
+                    i++;
+                }
+            }
+        }
+        return i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,83 @@
+package mcp.neo4j.server.cypher;
+
+import java.util.Map;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 16:30
+ * @description Finds the row limit of the final RETURN of a query, i.e. the most rows the query can produce.
+ * Limits inside subqueries, of WITH clauses or of UNION branches do not bound the result and are ignored.
+ */
+public final class CypherLimit {
+
+    private CypherLimit() {
+    }
+
+    /**
+     * @param query  The Cypher query string.
+     * @param params The query parameters, used when the limit is given as a parameter.
+     * @return The limit of the final RETURN, or null if the result size is not bounded by a literal or parameter.
+     */
+    public static Long returnLimit(String query, Map<String, Object> params) {
+        CypherLexer lexer = new CypherLexer(query);
+        int depth = 0;
+        boolean afterReturn = false;
+        Long limit = null;
+        char previousSymbol = 0;
+        boolean stringOperator = false;
+        while (lexer.next() != CypherLexer.TokenType.EOF) {
+            CypherLexer.TokenType type = lexer.type();
+            char before = previousSymbol;
+            previousSymbol = type == CypherLexer.TokenType.SYMBOL ? lexer.symbol() : 0;
+            if (type == CypherLexer.TokenType.SYMBOL) {
+                char symbol = lexer.symbol();
+                if (symbol == '{' || symbol == '(' || symbol == '[') {
+                    depth++;
+                } else if (symbol == '}' || symbol == ')' || symbol == ']') {
+                    depth--;
+                }
+                continue;
+            }
+            if (depth != 0 || type != CypherLexer.TokenType.WORD || before == '.' || before == ':' || lexer.peekChar() == ':') {
+                continue;
+            }
+            // STARTS WITH and ENDS WITH are operators, not a WITH clause
+            boolean afterStringOperator = stringOperator;
+            stringOperator = lexer.is("STARTS") || lexer.is("ENDS");
+            if (lexer.is("UNION")) {
+                return null;
+            }
+            if (lexer.is("RETURN")) {
+                afterReturn = true;
+                limit = null;
+            } else if (lexer.is("WITH") && !afterStringOperator) {
+                afterReturn = false;
+                limit = null;
+            } else if (lexer.is("LIMIT") && afterReturn) {
+                limit = limitValue(lexer, params);
+            }
+        }
+        return afterReturn ? limit : null;
+    }
+
+    private static Long limitValue(CypherLexer lexer, Map<String, Object> params) {
+        CypherLexer.TokenType type = lexer.next();
+        // A limit such as 2 * 5 is an expression, whose value is not known here
+        char next = lexer.peekChar();
+        if (next != 0 && next != ';' && !Character.isLetter(next)) {
+            return null;
+        }
+        if (type == CypherLexer.TokenType.NUMBER) {
+            try {
+                return Long.parseLong(lexer.text().replace("_", ""));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (type == CypherLexer.TokenType.PARAMETER && params != null) {
+            String name = lexer.text().substring(1).replace("`", "");
+            return params.get(name) instanceof Number number ? number.longValue() : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,107 @@
+package mcp.neo4j.server.cypher;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 14:10
+ * @description Rewrites a query to return one page of its result, by adding SKIP and LIMIT to its final RETURN.
+ * The columns keep their names and order, so un-aliased items such as {@code RETURN p.name} page like any other.
+ * A SKIP or LIMIT the final RETURN already has is combined with the page. Queries without a final RETURN,
+ * e.g. a standalone {@code CALL proc()} or {@code SHOW INDEXES}, and UNION queries cannot be paged.
+ */
+public final class CypherPaging {
+
+    /** Parameter holding the number of records already returned. */
+    public static final String SKIP_PARAMETER = "mcp_skip";
+
+    /** Parameter holding the most records a page reads. */
+    public static final String LIMIT_PARAMETER = "mcp_limit";
+
+    private CypherPaging() {
+    }
+
+    /**
+     * @param query   The Cypher query string.
+     * @param limited Whether the page is bounded by {@value #LIMIT_PARAMETER} as well.
+     * @return The query reading from {@value #SKIP_PARAMETER} on, or null if the query cannot be paged.
+     */
+    public static String page(String query, boolean limited) {
+        String text = query.strip();
+        if (text.endsWith(";")) {
+            text = text.substring(0, text.length() - 1).stripTrailing();
+        }
+        CypherLexer lexer = new CypherLexer(text);
+        int depth = 0;
+        boolean afterReturn = false;
+        int skipStart = -1;
+        int skipEnd = -1;
+        int limitStart = -1;
+        int limitEnd = -1;
+        char previousSymbol = 0;
+        boolean stringOperator = false;
+        boolean alias = false;
+        while (lexer.next() != CypherLexer.TokenType.EOF) {
+            CypherLexer.TokenType type = lexer.type();
+            char before = previousSymbol;
+            previousSymbol = type == CypherLexer.TokenType.SYMBOL ? lexer.symbol() : 0;
+            boolean afterAlias = alias;
+            alias = false;
+            if (type == CypherLexer.TokenType.SYMBOL) {
+                char symbol = lexer.symbol();
+                if (symbol == '{' || symbol == '(' || symbol == '[') {
+                    depth++;
+                } else if (symbol == '}' || symbol == ')' || symbol == ']') {
+                    depth--;
+                }
+                continue;
+            }
+            // Names of columns, properties, labels and map keys are never clauses, e.g. RETURN n AS skip
+            if (depth != 0 || type != CypherLexer.TokenType.WORD || afterAlias || before == '.' || before == ':' || lexer.peekChar() == ':') {
+                continue;
+            }
+            alias = lexer.is("AS");
+            // STARTS WITH and ENDS WITH are operators, not a WITH clause
+            boolean afterStringOperator = stringOperator;
+            stringOperator = lexer.is("STARTS") || lexer.is("ENDS");
+            if (lexer.is("UNION")) {
+                return null;
+            }
+            if (lexer.is("RETURN") || (lexer.is("WITH") && !afterStringOperator)) {
+                afterReturn = lexer.is("RETURN");
+                skipStart = skipEnd = limitStart = limitEnd = -1;
+            } else if (afterReturn && (lexer.is("SKIP") || lexer.is("OFFSET"))) {
+                skipStart = lexer.start();
+                skipEnd = lexer.end();
+            } else if (afterReturn && lexer.is("LIMIT")) {
+                limitStart = lexer.start();
+                limitEnd = lexer.end();
+            }
+        }
+        if (!afterReturn) {
+            return null;
+        }
+        String skip = null;
+        String limit = null;
+        int tail = text.length();
+        if (skipStart >= 0) {
+            skip = text.substring(skipEnd, limitStart > skipStart ? limitStart : text.length()).strip();
+            tail = skipStart;
+        }
+        if (limitStart >= 0) {
+            limit = text.substring(limitEnd, skipStart > limitStart ? skipStart : text.length()).strip();
+            tail = Math.min(tail, limitStart);
+        }
+        StringBuilder paged = new StringBuilder(text.substring(0, tail).stripTrailing()).append(' ');
+        String offset = "$" + SKIP_PARAMETER;
+        paged.append("SKIP ").append(skip == null ? offset : "(" + skip + ") + " + offset);
+        if (limit != null) {
+            // The rows left of the original limit, at most one page of them
+            String left = "(" + limit + ") - " + offset;
+            paged.append(" LIMIT ").append(limited
+                    ? "CASE WHEN " + left + " < $" + LIMIT_PARAMETER + " THEN " + left + " ELSE $" + LIMIT_PARAMETER + " END"
+                    : left);
+        } else if (limited) {
+            paged.append(" LIMIT $").append(LIMIT_PARAMETER);
+        }
+        return paged.toString();
+    }
+}
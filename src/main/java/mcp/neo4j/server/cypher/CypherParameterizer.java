@@ -0,0 +1,199 @@
+package mcp.neo4j.server.cypher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 13:40
+ * @description Rewrites string and number literals of a Cypher query into parameters {@code $p0..$pN}.
+ * Queries that only differ in their literal values then share one entry in Neo4j's query plan cache.
+ * Schema and administration commands are left untouched because they do not accept parameters in most
+ * positions, and so are the bounds of variable-length relationships such as {@code [*1..3]} and of quantified
+ * path patterns such as {@code {1,3}}. A {@code RETURN} or {@code WITH} item without an alias keeps its
+ * literals too, since the column it produces is named after the expression text.
+ */
+public final class CypherParameterizer {
+
+    private static final Set<String> COMMAND_WORDS = Set.of(
+            "INDEX", "CONSTRAINT", "SHOW", "DATABASE", "DATABASES", "ALIAS", "USER", "USERS", "ROLE", "ROLES",
+            "PRIVILEGES", "GRANT", "DENY", "REVOKE", "TERMINATE", "SERVER", "ALTER", "RENAME", "COMMIT"
+    );
+
+    private static final Set<String> PROJECTION_END = Set.of(
+            "ORDER", "SKIP", "OFFSET", "LIMIT", "WHERE", "UNION", "MATCH", "OPTIONAL", "WITH", "RETURN", "UNWIND", "CALL",
+            "CREATE", "INSERT", "MERGE", "SET", "DELETE", "DETACH", "REMOVE", "FOREACH", "LOAD", "USE", "FINISH"
+    );
+
+    private record Literal(int start, int end, Object value) {
+    }
+
+    /**
+     * @param query  The rewritten query.
+     * @param params The original parameters plus one parameter per extracted literal.
+     */
+    public record Parameterized(String query, Map<String, Object> params) {
+    }
+
+    private CypherParameterizer() {
+    }
+
+    /**
+     * Replace the literals of a query with parameters.
+     *
+     * @param query  The Cypher query string.
+     * @param params The parameters already passed with the query; their names are never reused.
+     * @return The rewritten query and parameters, or the input unchanged if nothing could be extracted.
+     */
+    public static Parameterized parameterize(String query, Map<String, Object> params) {
+        CypherLexer lexer = new CypherLexer(query);
+        List<Literal> literals = new ArrayList<>();
+        char previousSymbol = 0;
+        boolean stringOperator = false;
+        boolean quantifier = false;
+        // State of the RETURN or WITH item being read: its nesting depth, whether it has an alias, and its first literal
+        boolean projecting = false;
+        int depth = 0;
+        boolean aliased = false;
+        int itemStart = 0;
+        while (lexer.next() != CypherLexer.TokenType.EOF) {
+            CypherLexer.TokenType type = lexer.type();
+            char before = previousSymbol;
+            char symbol = type == CypherLexer.TokenType.SYMBOL ? lexer.symbol() : 0;
+            previousSymbol = symbol;
+            boolean keyword = type == CypherLexer.TokenType.WORD && before != '.' && before != ':' && lexer.peekChar() != ':';
+            String word = keyword ? lexer.text().toUpperCase(Locale.ROOT) : null;
+            if (keyword && COMMAND_WORDS.contains(word)) {
+                return new Parameterized(query, params);
+            }
+            // STARTS WITH and ENDS WITH are operators, not a WITH clause
+            boolean clause = keyword && !stringOperator;
+            stringOperator = keyword && (word.equals("STARTS") || word.equals("ENDS"));
+            if (projecting) {
+                if (depth == 0 && (symbol == ',' || symbol == ';' || symbol == ')' || symbol == '}'
+                        || clause && PROJECTION_END.contains(word))) {
+                    if (!aliased) {
+                        literals.subList(itemStart, literals.size()).clear();
+                    }
+                    projecting = symbol == ',';
+                    aliased = false;
+                    itemStart = literals.size();
+                } else if (symbol == '(' || symbol == '[' || symbol == '{') {
+                    depth++;
+                } else if (symbol == ')' || symbol == ']' || symbol == '}') {
+                    depth--;
+                } else if (depth == 0 && clause && word.equals("AS")) {
+                    aliased = true;
+                }
+            }
+            if (!projecting && clause && (word.equals("RETURN") || word.equals("WITH"))) {
+                projecting = true;
+                depth = 0;
+                aliased = false;
+                itemStart = literals.size();
+            }
+            // Quantifiers such as {1,3} follow a parenthesized path or a relationship pattern
+            if (symbol == '{' && (before == ')' || before == ']' || before == '-' || before == '>')) {
+                char next = lexer.peekChar();
+                quantifier = next == ',' || next >= '0' && next <= '9';
+            } else if (symbol == '}') {
+                quantifier = false;
+            }
+            // Range bounds of variable-length patterns and quantifiers must stay literals
+            if (quantifier || type != CypherLexer.TokenType.STRING && (type != CypherLexer.TokenType.NUMBER || before == '*' || before == '.')) {
+                continue;
+            }
+            Object value = type == CypherLexer.TokenType.STRING ? unquote(query, lexer.start(), lexer.end()) : number(lexer.text());
+            if (value != null) {
+                literals.add(new Literal(lexer.start(), lexer.end(), value));
+            }
+        }
+        if (projecting && !aliased) {
+            literals.subList(itemStart, literals.size()).clear();
+        }
+        if (literals.isEmpty()) {
+            return new Parameterized(query, params);
+        }
+        StringBuilder rewritten = new StringBuilder(query.length());
+        Map<String, Object> allParams = params == null ? new HashMap<>() : new HashMap<>(params);
+        int copied = 0;
+        int next = 0;
+        for (Literal literal : literals) {
+            while (allParams.containsKey("p" + next)) {
+                next++;
+            }
+            String name = "p" + next++;
+            allParams.put(name, literal.value());
+            rewritten.append(query, copied, literal.start()).append('$').append(name);
+            copied = literal.end();
+        }
+        rewritten.append(query, copied, query.length());
+        return new Parameterized(rewritten.toString(), allParams);
+    }
+
+    private static Object number(String text) {
+        String digits = text.replace("_", "");
+        try {
+            if (digits.startsWith("0x") || digits.startsWith("0X")) {
+                return Long.parseLong(digits.substring(2), 16);
+            }
+            if (digits.indexOf('.') >= 0 || digits.indexOf('e') >= 0 || digits.indexOf('E') >= 0) {
+                return Double.parseDouble(digits);
+            }
+            // Leading zeros denote octal numbers in older Cypher versions, leave those alone
+            if (digits.length() > 1 && digits.charAt(0) == '0') {
+                return null;
+            }
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String unquote(String query, int start, int end) {
+        // An unterminated literal reaches the end of the query without its closing quote
+        if (end - start < 2 || query.charAt(end - 1) != query.charAt(start)) {
+            return null;
+        }
+        StringBuilder value = new StringBuilder(end - start - 2);
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = query.charAt(i);
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (++i >= end - 1) {
+                return null;
+            }
+            char escaped = query.charAt(i);
+            switch (escaped) {
+                case 't' -> value.append('\t');
+                case 'b' -> value.append('\b');
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 'f' -> value.append('\f');
+                case 'u', 'U' -> {
+                    int digits = escaped == 'u' ? 4 : 8;
+                    if (i + digits >= end) {
+                        return null;
+                    }
+                    try {
+                        value.appendCodePoint(Integer.parseInt(query.substring(i + 1, i + 1 + digits), 16));
+                    } catch (IllegalArgumentException e) {
+                        return null;
+                    }
+                    i += digits;
+                }
+                case '\\', '\'', '"' -> value.append(escaped);
+                default -> {
+                    return null;
+                }
+            }
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,34 @@
+package mcp.neo4j.server.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 14:50
+ * @description A JSON document that has already been written. Jackson copies it into the output verbatim,
+ * so tool results built by {@link RecordJsonWriter} are not converted into maps and serialized a second time.
+ */
+public record RawJson(String json) implements JsonSerializable {
+
+    public static final RawJson EMPTY_ARRAY = new RawJson("[]");
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSerializer) throws IOException {
+        serialize(generator, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+}
@@ -0,0 +1,415 @@
+package mcp.neo4j.server.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.Path;
+import org.neo4j.driver.types.Point;
+import org.neo4j.driver.types.Relationship;
+import org.neo4j.driver.types.TypeSystem;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 14:50
+ * @description Writes driver records straight into JSON, without converting them into maps first.
+ * Results are laid out as an array of objects or in one of the columnar {@link ResultFormat}s.
+ * Output goes to recycled text buffers taken from a Jackson {@link RecyclerPool} that the generators share,
+ * and handed back exactly once, when the document is finished or the writer is closed. The pool is not bound
+ * to threads, so virtual threads reuse the buffers as well.
+ * <p>
+ * Driver types are encoded as follows:
+ * <ul>
+ *     <li>Node: {@code {"elementId", "labels", "properties"}}</li>
+ *     <li>Relationship: {@code {"elementId", "type", "startNodeElementId", "endNodeElementId", "properties"}}</li>
+ *     <li>Path: {@code {"nodes", "relationships"}} in path order</li>
+ *     <li>Date, time and date-time values and durations: ISO-8601 strings</li>
+ *     <li>Point: {@code {"srid", "x", "y"}}, plus {@code "z"} for 3D points</li>
+ *     <li>Byte arrays: base64 strings</li>
+ * </ul>
+ */
+public final class RecordJsonWriter implements AutoCloseable {
+
+    private static final RecyclerPool<BufferRecycler> BUFFERS = JsonRecyclerPools.newConcurrentDequePool();
+    private static final ObjectMapper MAPPER = new ObjectMapper(JsonFactory.builder().recyclerPool(BUFFERS).build());
+    private static final TypeSystem TYPES = TypeSystem.getDefault();
+
+    private final ResultFormat format;
+    private final List<String> columns;
+    private final BufferRecycler recycler;
+    private final SegmentedStringWriter out;
+    private final JsonGenerator generator;
+    // Dictionary encoding needs to see every value of a column before the first row can be written
+    private final List<Record> buffered;
+    private Map<String, Object> continuation;
+    private boolean closed;
+
+    private RecordJsonWriter(ResultFormat format, List<String> columns) {
+        this.format = format;
+        this.columns = columns;
+        this.buffered = format == ResultFormat.DICTIONARY ? new ArrayList<>() : null;
+        this.recycler = BUFFERS.acquirePooled();
+        this.out = new SegmentedStringWriter(recycler);
+        try {
+            this.generator = MAPPER.getFactory().createGenerator(out);
+            if (format == ResultFormat.OBJECTS) {
+                generator.writeStartArray();
+            } else if (format == ResultFormat.COLUMNAR) {
+                writeColumns();
+                generator.writeArrayFieldStart("rows");
+            }
+        } catch (IOException e) {
+            BUFFERS.releasePooled(recycler);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Start a new JSON array of record objects. The writer must be finished or closed to return its buffers.
+     *
+     * @return A writer positioned inside an empty array; not thread-safe.
+     */
+    public static RecordJsonWriter array() {
+        return new RecordJsonWriter(ResultFormat.OBJECTS, List.of());
+    }
+
+    /**
+     * Start a new result document in the given format. The writer must be finished or closed to return its buffers.
+     *
+     * @param format  The layout of the document.
+     * @param columns The column names of the result, in record order.
+     * @return A new writer; not thread-safe.
+     */
+    public static RecordJsonWriter open(ResultFormat format, List<String> columns) {
+        return new RecordJsonWriter(format, columns);
+    }
+
+    /**
+     * Write a list of records as a JSON array.
+     *
+     * @param records The records to write.
+     * @return The JSON array.
+     */
+    public static RawJson records(List<Record> records) {
+        return records(ResultFormat.OBJECTS, List.of(), records);
+    }
+
+    /**
+     * Write a list of records in the given format.
+     *
+     * @param format  The layout of the document.
+     * @param columns The column names of the result, in record order.
+     * @param records The records to write.
+     * @return The JSON document.
+     */
+    public static RawJson records(ResultFormat format, List<String> columns, List<Record> records) {
+        try (RecordJsonWriter writer = open(format, columns)) {
+            records.forEach(writer::write);
+            return writer.finish();
+        }
+    }
+
+    /**
+     * Write only the continuation of a truncated result, as the last chunk of a streamed result.
+     *
+     * @param format       The layout of the streamed chunks.
+     * @param continuation The continuation entry.
+     * @return The JSON document.
+     */
+    public static RawJson continuation(ResultFormat format, Map<String, Object> continuation) {
+        return serialize(format == ResultFormat.OBJECTS ? List.of(continuation) : continuation);
+    }
+
+    /**
+     * Serialize any value with Jackson, for small non-record results such as write counters.
+     *
+     * @param value The value to serialize.
+     * @return The JSON document.
+     */
+    public static RawJson serialize(Object value) {
+        try {
+            return new RawJson(MAPPER.writeValueAsString(value));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Append a record: an object keyed by column name, or an array of values in the columnar formats.
+     *
+     * @param record The record to append.
+     */
+    public void write(Record record) {
+        if (buffered != null) {
+            buffered.add(record);
+            return;
+        }
+        try {
+            if (format == ResultFormat.OBJECTS) {
+                generator.writeStartObject();
+                List<String> keys = record.keys();
+                for (int i = 0; i < keys.size(); i++) {
+                    generator.writeFieldName(keys.get(i));
+                    writeValue(record.get(i));
+                }
+                generator.writeEndObject();
+            } else {
+                generator.writeStartArray();
+                for (int i = 0; i < record.size(); i++) {
+                    writeValue(record.get(i));
+                }
+                generator.writeEndArray();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Add the continuation of a truncated result. It becomes the last element of an array of objects,
+     * or its fields are added to the top level of a columnar document.
+     *
+     * @param continuation The continuation entry.
+     */
+    public void writeContinuation(Map<String, Object> continuation) {
+        if (format != ResultFormat.OBJECTS) {
+            this.continuation = continuation;
+            return;
+        }
+        try {
+            generator.writeObject(continuation);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Complete the document and return it. The writer cannot be used afterwards.
+     *
+     * @return The JSON document.
+     */
+    public RawJson finish() {
+        try {
+            if (format == ResultFormat.OBJECTS) {
+                generator.writeEndArray();
+            } else {
+                if (buffered != null) {
+                    writeDictionaryEncoded();
+                }
+                generator.writeEndArray();
+                if (continuation != null) {
+                    for (Map.Entry<String, Object> entry : continuation.entrySet()) {
+                        generator.writeObjectField(entry.getKey(), entry.getValue());
+                    }
+                }
+                generator.writeEndObject();
+            }
+            return new RawJson(release());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // Only releases the buffers if the document could not be completed
+            close();
+        }
+    }
+
+    private void writeColumns() throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("columns");
+        for (String column : columns) {
+            generator.writeString(column);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Write the header, dictionaries and rows of a dictionary-encoded document, leaving the rows array open.
+     * A column is encoded when all its values are strings or null and at least one string repeats.
+     */
+    private void writeDictionaryEncoded() throws IOException {
+        List<Map<String, Integer>> dictionaries = new ArrayList<>(columns.size());
+        for (int column = 0; column < columns.size(); column++) {
+            Map<String, Integer> dictionary = new LinkedHashMap<>();
+            int strings = 0;
+            for (Record record : buffered) {
+                Value value = record.get(column);
+                if (value.isNull()) {
+                    continue;
+                }
+                if (!value.hasType(TYPES.STRING())) {
+                    dictionary = null;
+                    break;
+                }
+                strings++;
+                dictionary.putIfAbsent(value.asString(), dictionary.size());
+            }
+            dictionaries.add(dictionary != null && dictionary.size() < strings ? dictionary : null);
+        }
+        writeColumns();
+        generator.writeObjectFieldStart("dictionaries");
+        for (int column = 0; column < columns.size(); column++) {
+            if (dictionaries.get(column) != null) {
+                generator.writeArrayFieldStart(columns.get(column));
+                for (String value : dictionaries.get(column).keySet()) {
+                    generator.writeString(value);
+                }
+                generator.writeEndArray();
+            }
+        }
+        generator.writeEndObject();
+        generator.writeArrayFieldStart("rows");
+        for (Record record : buffered) {
+            generator.writeStartArray();
+            for (int column = 0; column < record.size(); column++) {
+                Value value = record.get(column);
+                Map<String, Integer> dictionary = dictionaries.get(column);
+                if (dictionary != null && !value.isNull()) {
+                    generator.writeNumber(dictionary.get(value.asString()));
+                } else {
+                    writeValue(value);
+                }
+            }
+            generator.writeEndArray();
+        }
+        buffered.clear();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        try {
+            release();
+        } catch (IOException e) {
+            // Nothing was written to a real destination, the buffers are released either way
+        }
+    }
+
+    /**
+     * Close the generator and hand the text segments and the recycler back. Runs once per writer.
+     *
+     * @return The document written so far.
+     */
+    private String release() throws IOException {
+        closed = true;
+        try {
+            generator.close();
+            return out.getAndClear();
+        } finally {
+            BUFFERS.releasePooled(recycler);
+        }
+    }
+
+    private void writeValue(Value value) throws IOException {
+        if (value.isNull()) {
+            generator.writeNull();
+        } else if (value.hasType(TYPES.STRING())) {
+            generator.writeString(value.asString());
+        } else if (value.hasType(TYPES.INTEGER())) {
+            generator.writeNumber(value.asLong());
+        } else if (value.hasType(TYPES.FLOAT())) {
+            generator.writeNumber(value.asDouble());
+        } else if (value.hasType(TYPES.BOOLEAN())) {
+            generator.writeBoolean(value.asBoolean());
+        } else if (value.hasType(TYPES.LIST())) {
+            generator.writeStartArray();
+            for (Value element : value.values()) {
+                writeValue(element);
+            }
+            generator.writeEndArray();
+        } else if (value.hasType(TYPES.NODE())) {
+            // Nodes and relationships also count as maps, so they have to be matched first
+            writeNode(value.asNode());
+        } else if (value.hasType(TYPES.RELATIONSHIP())) {
+            writeRelationship(value.asRelationship());
+        } else if (value.hasType(TYPES.MAP())) {
+            generator.writeStartObject();
+            for (String key : value.keys()) {
+                generator.writeFieldName(key);
+                writeValue(value.get(key));
+            }
+            generator.writeEndObject();
+        } else if (value.hasType(TYPES.PATH())) {
+            writePath(value.asPath());
+        } else if (value.hasType(TYPES.POINT())) {
+            writePoint(value.asPoint());
+        } else if (value.hasType(TYPES.BYTES())) {
+            generator.writeBinary(value.asByteArray());
+        } else {
+            // Dates, times, date-times and durations print as ISO-8601
+            generator.writeString(value.asObject().toString());
+        }
+    }
+
+    private void writeNode(Node node) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("elementId", node.elementId());
+        generator.writeArrayFieldStart("labels");
+        for (String label : node.labels()) {
+            generator.writeString(label);
+        }
+        generator.writeEndArray();
+        writeProperties(node.keys(), node::get);
+        generator.writeEndObject();
+    }
+
+    private void writeRelationship(Relationship relationship) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("elementId", relationship.elementId());
+        generator.writeStringField("type", relationship.type());
+        generator.writeStringField("startNodeElementId", relationship.startNodeElementId());
+        generator.writeStringField("endNodeElementId", relationship.endNodeElementId());
+        writeProperties(relationship.keys(), relationship::get);
+        generator.writeEndObject();
+    }
+
+    private void writePath(Path path) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("nodes");
+        for (Node node : path.nodes()) {
+            writeNode(node);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("relationships");
+        for (Relationship relationship : path.relationships()) {
+            writeRelationship(relationship);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writePoint(Point point) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("srid", point.srid());
+        generator.writeNumberField("x", point.x());
+        generator.writeNumberField("y", point.y());
+        if (!Double.isNaN(point.z())) {
+            generator.writeNumberField("z", point.z());
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeProperties(Iterable<String> keys, Function<String, Value> property) throws IOException {
+        generator.writeObjectFieldStart("properties");
+        for (String key : keys) {
+            generator.writeFieldName(key);
+            writeValue(property.apply(key));
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,36 @@
+package mcp.neo4j.server.json;
+
+import java.util.Locale;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 15:30
+ * @description Layout of read results written by {@link RecordJsonWriter}.
+ */
+public enum ResultFormat {
+    /** An array with one object per record, keyed by column name. */
+    OBJECTS,
+    /** {@code {columns: [...], rows: [[...], ...]}} with the values of each record in column order. */
+    COLUMNAR,
+    /**
+     * Columnar, and columns holding only strings with repeated values are stored once in
+     * {@code dictionaries: {column: [...]}} while their cells hold indexes into that list.
+     */
+    DICTIONARY;
+
+    /**
+     * @param name The format name as given by a tool caller, case-insensitive; null or blank for the default.
+     * @return The format.
+     * @throws IllegalArgumentException if the name is not a known format.
+     */
+    public static ResultFormat parse(String name) {
+        if (name == null || name.isBlank()) {
+            return OBJECTS;
+        }
+        try {
+            return valueOf(name.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown result format '" + name + "', expected objects, columnar or dictionary");
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package mcp.neo4j.server.service;
+
+import org.neo4j.driver.AccessMode;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 17:30
+ * @description Admission control in front of {@link Neo4jService}. At most {@code neo4j.admission.max-concurrent}
+ * tool calls run at once, optionally with separate caps for reads, writes and each database. Further calls wait in a bounded
+ * queue for at most {@code neo4j.admission.max-wait}; a call that finds the queue full, its client over
+ * {@code neo4j.admission.max-per-client}, or its deadline passed is rejected right away with a retry-after hint,
+ * instead of piling up in front of the driver's connection pool. The bookkeeping is guarded by a
+ * {@link ReentrantLock} rather than a monitor, so a virtual thread waiting for it does not pin its carrier thread.
+ */
+@Component
+public class AdmissionControl {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControl.class);
+    // Weight of the latest call in the running average of call durations
+    private static final double DURATION_SMOOTHING = 0.2;
+
+    private final boolean enabled;
+    private final int maxConcurrent;
+    private final int maxConcurrentReads;
+    private final int maxConcurrentWrites;
+    private final int maxPerDatabase;
+    private final int maxPerClient;
+    private final int queueSize;
+    private final Duration maxWait;
+    private final Databases databases;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+    private final Map<String, Integer> callsPerClient = new HashMap<>();
+    private final Map<String, Integer> activePerDatabase = new HashMap<>();
+    private int active;
+    private int activeReads;
+    private int activeWrites;
+    private double averageNanos;
+
+    /**
+     * @param enabled             Whether tool calls are admitted through this control at all
+     * @param maxConcurrent       Maximum number of tool calls running at once
+     * @param maxConcurrentReads  Maximum number of read calls running at once, 0 for no separate limit
+     * @param maxConcurrentWrites Maximum number of write calls running at once, 0 for no separate limit
+     * @param maxPerDatabase      Maximum number of calls running at once against one database, 0 for no separate limit
+     * @param maxPerClient        Maximum number of running and waiting calls of one client, 0 for no limit
+     * @param queueSize           Maximum number of calls waiting for admission
+     * @param maxWait             How long a call may wait for admission before it is rejected
+     * @param databases           Resolves the database a call runs against
+     */
+    public AdmissionControl(
+            @Value("${neo4j.admission.enabled:true}") boolean enabled,
+            @Value("${neo4j.admission.max-concurrent:64}") int maxConcurrent,
+            @Value("${neo4j.admission.max-concurrent-reads:0}") int maxConcurrentReads,
+            @Value("${neo4j.admission.max-concurrent-writes:0}") int maxConcurrentWrites,
+            @Value("${neo4j.admission.max-concurrent-per-database:0}") int maxPerDatabase,
+            @Value("${neo4j.admission.max-per-client:0}") int maxPerClient,
+            @Value("${neo4j.admission.queue-size:256}") int queueSize,
+            @Value("${neo4j.admission.max-wait:2s}") Duration maxWait,
+            Databases databases) {
+        this.enabled = enabled;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxConcurrentReads = maxConcurrentReads;
+        this.maxConcurrentWrites = maxConcurrentWrites;
+        this.maxPerDatabase = maxPerDatabase;
+        this.maxPerClient = maxPerClient;
+        this.queueSize = queueSize;
+        this.maxWait = maxWait;
+        this.databases = databases;
+        this.averageNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Ask for admission of a tool call.
+     *
+     * @param mode     Whether the call reads or writes.
+     * @param client   The client the call came from.
+     * @param database The database named by the call, or null for the default.
+     * @return A future completing with the permit once the call may run, or failing with an
+     * {@link AdmissionRejectedException}. The permit must be closed when the call has finished.
+     * @throws IllegalArgumentException if the database is not served.
+     */
+    public CompletableFuture<Permit> acquire(AccessMode mode, String client, String database) {
+        String name = databases.name(database);
+        if (!enabled) {
+            return CompletableFuture.completedFuture(new Permit(mode, client, name, false));
+        }
+        Waiter waiter;
+        lock.lock();
+        try {
+            int clientCalls = callsPerClient.getOrDefault(client, 0);
+            if (maxPerClient > 0 && clientCalls >= maxPerClient) {
+                return CompletableFuture.failedFuture(rejected("client " + client + " already has " + clientCalls + " calls in flight"));
+            }
+            // Every waiter that could run has been admitted on release, so the queued ones are held back by a limit
+            // of their own: a call that may run does not jump ahead of a waiter of its kind and database
+            if (canRun(mode, name)) {
+                callsPerClient.put(client, clientCalls + 1);
+                return CompletableFuture.completedFuture(start(mode, client, name));
+            }
+            if (queue.size() >= queueSize) {
+                return CompletableFuture.failedFuture(rejected(queue.size() + " calls are already waiting"));
+            }
+            callsPerClient.put(client, clientCalls + 1);
+            waiter = new Waiter(mode, client, name, new CompletableFuture<>());
+            queue.add(waiter);
+        } finally {
+            lock.unlock();
+        }
+        CompletableFuture.delayedExecutor(maxWait.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            if (abandon(waiter)) {
+                waiter.permit().completeExceptionally(rejected("no capacity freed up within " + maxWait.toMillis() + "ms"));
+            }
+        });
+        // A caller that stops waiting gives up its place in the queue
+        waiter.permit().whenComplete((permit, error) -> {
+            if (error instanceof CancellationException) {
+                abandon(waiter);
+            }
+        });
+        return waiter.permit();
+    }
+
+    /**
+     * Blocking variant of {@link #acquire(AccessMode, String, String)}; waits at most {@code neo4j.admission.max-wait}.
+     *
+     * @param mode     Whether the call reads or writes.
+     * @param client   The client the call came from.
+     * @param database The database named by the call, or null for the default.
+     * @return The permit, to be closed when the call has finished.
+     * @throws AdmissionRejectedException if the call is not admitted.
+     * @throws CancellationException       if the thread was interrupted while it waited.
+     */
+    public Permit acquireBlocking(AccessMode mode, String client, String database) {
+        CompletableFuture<Permit> permit = acquire(mode, client, database);
+        try {
+            return permit.get();
+        } catch (InterruptedException e) {
+            // The call was cancelled while it waited; give up its place, or the permit it got in the meantime
+            if (!permit.cancel(false)) {
+                permit.thenAccept(Permit::close);
+            }
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Cancelled while waiting for admission");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AdmissionRejectedException rejected) {
+                throw rejected;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * Run reactive work once it is admitted and release the permit when the work terminates or is cancelled.
+     *
+     * @param mode     Whether the call reads or writes.
+     * @param client   The client the call came from.
+     * @param database The database named by the call, or null for the default.
+     * @param work     The tool call, subscribed to only after admission.
+     * @return The elements of the work, or an {@link AdmissionRejectedException} if it was not admitted.
+     */
+    public <T> Flux<T> admit(AccessMode mode, String client, String database, Publisher<T> work) {
+        return Flux.usingWhen(
+                Mono.fromFuture(() -> acquire(mode, client, database)),
+                permit -> work,
+                permit -> Mono.fromRunnable(permit::close));
+    }
+
+    private boolean canRun(AccessMode mode, String database) {
+        if (active >= maxConcurrent) {
+            return false;
+        }
+        if (maxPerDatabase > 0 && activePerDatabase.getOrDefault(database, 0) >= maxPerDatabase) {
+            return false;
+        }
+        return mode == AccessMode.READ
+                ? maxConcurrentReads <= 0 || activeReads < maxConcurrentReads
+                : maxConcurrentWrites <= 0 || activeWrites < maxConcurrentWrites;
+    }
+
+    private Permit start(AccessMode mode, String client, String database) {
+        active++;
+        activePerDatabase.merge(database, 1, Integer::sum);
+        if (mode == AccessMode.READ) {
+            activeReads++;
+        } else {
+            activeWrites++;
+        }
+        return new Permit(mode, client, database, true);
+    }
+
+    private void release(Permit permit) {
+        List<Map.Entry<Waiter, Permit>> admitted = new ArrayList<>();
+        lock.lock();
+        try {
+            active--;
+            activePerDatabase.computeIfPresent(permit.database, (key, calls) -> calls > 1 ? calls - 1 : null);
+            if (permit.mode == AccessMode.READ) {
+                activeReads--;
+            } else {
+                activeWrites--;
+            }
+            leave(permit.client);
+            averageNanos += DURATION_SMOOTHING * ((System.nanoTime() - permit.startNanos) - averageNanos);
+            // Later waiters may pass earlier ones whose read, write or database limit is still reached
+            Iterator<Waiter> waiters = queue.iterator();
+            while (waiters.hasNext() && active < maxConcurrent) {
+                Waiter waiter = waiters.next();
+                if (canRun(waiter.mode(), waiter.database())) {
+                    waiters.remove();
+                    admitted.add(Map.entry(waiter, start(waiter.mode(), waiter.client(), waiter.database())));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Map.Entry<Waiter, Permit> handoff : admitted) {
+            if (!handoff.getKey().permit().complete(handoff.getValue())) {
+                // The waiter was cancelled in the meantime, hand the slot on
+                handoff.getValue().close();
+            }
+        }
+    }
+
+    /**
+     * Remove a waiter that gave up or ran out of time.
+     *
+     * @return true if the waiter was still queued.
+     */
+    private boolean abandon(Waiter waiter) {
+        lock.lock();
+        try {
+            if (!queue.remove(waiter)) {
+                return false;
+            }
+            leave(waiter.client());
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void leave(String client) {
+        callsPerClient.computeIfPresent(client, (key, calls) -> calls > 1 ? calls - 1 : null);
+    }
+
+    /**
+     * Estimate when capacity frees up: the average call duration times the number of calls ahead,
+     * spread over the concurrent slots, and at least one second.
+     */
+    private AdmissionRejectedException rejected(String reason) {
+        double waitNanos;
+        lock.lock();
+        try {
+            waitNanos = averageNanos * (queue.size() + 1) / maxConcurrent;
+        } finally {
+            lock.unlock();
+        }
+        Duration retryAfter = Duration.ofSeconds(Math.max(1, (long) Math.ceil(waitNanos / 1e9)));
+        logger.debug("Rejected tool call: {}", reason);
+        return new AdmissionRejectedException(reason, retryAfter);
+    }
+
+    /**
+     * @return The number of tool calls currently running.
+     */
+    public int active() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of tool calls waiting for admission.
+     */
+    public int queued() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Waiter(AccessMode mode, String client, String database, CompletableFuture<Permit> permit) {
+    }
+
+    /**
+     * The right of one tool call to run. Closing it more than once has no further effect.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final AccessMode mode;
+        private final String client;
+        private final String database;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean held;
+
+        private Permit(AccessMode mode, String client, String database, boolean held) {
+            this.mode = mode;
+            this.client = client;
+            this.database = database;
+            this.held = new AtomicBoolean(held);
+        }
+
+        @Override
+        public void close() {
+            if (held.compareAndSet(true, false)) {
+                release(this);
+            }
+        }
+    }
+}
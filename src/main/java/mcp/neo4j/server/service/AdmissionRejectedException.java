@@ -0,0 +1,25 @@
+package mcp.neo4j.server.service;
+
+import java.time.Duration;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 17:30
+ * @description Thrown when a tool call is turned away by {@link AdmissionControl}. The message tells the
+ * caller how long to back off before trying again.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    public AdmissionRejectedException(String reason, Duration retryAfter) {
+        super("Server busy: " + reason + ". Retry after " + retryAfter.toSeconds() + "s");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+}
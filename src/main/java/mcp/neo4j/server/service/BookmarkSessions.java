@@ -0,0 +1,116 @@
+package mcp.neo4j.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.BookmarkManager;
+import org.neo4j.driver.BookmarkManagerConfig;
+import org.neo4j.driver.BookmarkManagers;
+import org.neo4j.driver.SessionConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 21:00
+ * @description Session settings for tool queries. Every client gets its own {@link BookmarkManager}, shared by all
+ * sessions opened on its behalf, so a read routed to a follower or read replica waits until that member has
+ * applied the client's earlier writes. Clients do not wait for each other's writes, and no query has to be pinned
+ * to the leader for read-your-writes. Bookmarks are kept per client, target and database, as a bookmark of one
+ * database says nothing about another, let alone about a database of another cluster. The session configs of a
+ * client are built once per database and reused; only calls with a fetch size other than the driver default get a
+ * config of their own.
+ */
+@Component
+public class BookmarkSessions {
+
+    private final long defaultFetchSize;
+    private final boolean enabled;
+    private final Cache<Key, ClientSessions> clients;
+
+    /**
+     * @param fetchSizeAdvisor Provides the driver default fetch size
+     * @param enabled          Whether the sessions of a client are chained through bookmarks
+     * @param idleTimeout      How long the bookmarks of a client without tool calls are kept
+     * @param maxClients       Number of clients, targets and databases whose bookmarks are kept
+     */
+    public BookmarkSessions(
+            FetchSizeAdvisor fetchSizeAdvisor,
+            @Value("${neo4j.bookmarks.enabled:true}") boolean enabled,
+            @Value("${neo4j.bookmarks.idle-timeout:30m}") Duration idleTimeout,
+            @Value("${neo4j.bookmarks.max-clients:10000}") long maxClients) {
+        this.defaultFetchSize = fetchSizeAdvisor.defaultFetchSize();
+        this.enabled = enabled;
+        this.clients = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maxClients)
+                .build();
+    }
+
+    /**
+     * Session settings for work that is not done on behalf of a client, such as schema loads and
+     * {@code EXPLAIN}. These sessions neither wait for nor publish bookmarks.
+     *
+     * @param target     The target the session is opened on.
+     * @param database   The database of the session.
+     * @param accessMode The default access mode of the session.
+     * @return The shared session configuration of the database.
+     */
+    public SessionConfig sessionConfig(String target, String database, AccessMode accessMode) {
+        return sessionConfig(target, null, database, accessMode, null);
+    }
+
+    /**
+     * Session settings for a tool query of a client.
+     *
+     * @param target     The target the session is opened on.
+     * @param client     The client key, or null if the call has none.
+     * @param database   The database of the session.
+     * @param accessMode The default access mode of the session.
+     * @param fetchSize  The number of records pulled per batch, or null for the driver default.
+     * @return The session configuration; a reused one when the fetch size is the default.
+     */
+    public SessionConfig sessionConfig(String target, String client, String database, AccessMode accessMode, Long fetchSize) {
+        // Sessions without a client share one entry per target and database that holds no bookmark manager
+        ClientSessions sessions = clients.get(new Key(target, enabled ? client : null, database), this::newSessions);
+        if (fetchSize == null || fetchSize == defaultFetchSize) {
+            return accessMode == AccessMode.READ ? sessions.read() : sessions.write();
+        }
+        SessionConfig.Builder builder = builder(database, accessMode).withFetchSize(fetchSize);
+        return sessions.bookmarkManager() == null ? builder.build() : builder.withBookmarkManager(sessions.bookmarkManager()).build();
+    }
+
+    private ClientSessions newSessions(Key key) {
+        if (key.client() == null) {
+            return new ClientSessions(null, builder(key.database(), AccessMode.READ).build(), builder(key.database(), AccessMode.WRITE).build());
+        }
+        BookmarkManager bookmarkManager = BookmarkManagers.defaultManager(BookmarkManagerConfig.builder().build());
+        return new ClientSessions(bookmarkManager,
+                builder(key.database(), AccessMode.READ).withBookmarkManager(bookmarkManager).build(),
+                builder(key.database(), AccessMode.WRITE).withBookmarkManager(bookmarkManager).build());
+    }
+
+    private static SessionConfig.Builder builder(String database, AccessMode accessMode) {
+        return SessionConfig.builder()
+                .withDatabase(database)
+                .withDefaultAccessMode(accessMode);
+    }
+
+    /**
+     * @param target   The target the sessions are opened on.
+     * @param client   The client key, null for sessions without bookmarks.
+     * @param database The database of the sessions.
+     */
+    private record Key(String target, String client, String database) {
+    }
+
+    /**
+     * @param bookmarkManager The bookmark manager shared by the sessions of the client, null without a client.
+     * @param read            The read session config with the default fetch size.
+     * @param write           The write session config with the default fetch size.
+     */
+    private record ClientSessions(BookmarkManager bookmarkManager, SessionConfig read, SessionConfig write) {
+    }
+}
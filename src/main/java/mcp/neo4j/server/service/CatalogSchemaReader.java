@@ -0,0 +1,253 @@
+package mcp.neo4j.server.service;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.Relationship;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 13:10
+ * @description Builds the get-neo4j-schema output from the database catalog instead of apoc.meta.data().
+ * Labels, property types, relationship endpoints, indexes and constraints are read by separate catalog
+ * queries that run in parallel. Later reads only re-sample the properties of labels whose node count
+ * changed since the previous read; node counts come from the count store. The queries run in read sessions
+ * from {@link BookmarkSessions} under the tool query timeout.
+ */
+class CatalogSchemaReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSchemaReader.class);
+
+    private static final String LABELS = "CALL db.labels() YIELD label RETURN label";
+    private static final String NODE_TYPE_PROPERTIES = """
+            CALL db.schema.nodeTypeProperties() YIELD nodeLabels, propertyName, propertyTypes
+            RETURN nodeLabels, propertyName, propertyTypes""";
+    private static final String VISUALIZATION = "CALL db.schema.visualization() YIELD nodes, relationships RETURN nodes, relationships";
+    private static final String INDEXES = """
+            SHOW INDEXES YIELD entityType, labelsOrTypes, properties
+            WHERE entityType = 'NODE' AND labelsOrTypes IS NOT NULL
+            RETURN labelsOrTypes, properties""";
+    private static final String CONSTRAINTS = """
+            SHOW CONSTRAINTS YIELD type, entityType, labelsOrTypes, properties
+            WHERE entityType = 'NODE' AND (type CONTAINS 'UNIQUE' OR type CONTAINS 'KEY')
+            RETURN labelsOrTypes, properties""";
+    private static final String LABEL_COUNT = "MATCH (n:%s) RETURN $labels[%d] AS label, count(n) AS count";
+    private static final String LABEL_SAMPLE = "MATCH (n:%s) WITH n LIMIT $sampleSize RETURN properties(n) AS properties";
+
+    private final Driver driver;
+    private final BookmarkSessions sessions;
+    private final String target;
+    private final TransactionConfig transactionConfig;
+    private final int sampleSize;
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * @param driver            The Neo4j driver of the target
+     * @param sessions          Session settings shared with the tool queries
+     * @param target            The name of the target the driver connects to
+     * @param transactionConfig Transaction settings of the catalog queries, carrying the query timeout
+     * @param sampleSize        Number of nodes sampled per label when the properties of a changed label are refreshed
+     */
+    CatalogSchemaReader(Driver driver, BookmarkSessions sessions, String target, TransactionConfig transactionConfig, int sampleSize) {
+        this.driver = driver;
+        this.sessions = sessions;
+        this.target = target;
+        this.transactionConfig = transactionConfig;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * The node counts and property types of the previous read of a database.
+     */
+    private record Snapshot(Map<String, Long> labelCounts, Map<String, Map<String, String>> propertyTypes) {
+    }
+
+    /**
+     * Read the schema of a database in the same shape as the apoc.meta.data() based schema query:
+     * one row per label with {@code label}, {@code attributes} and {@code relationships}.
+     *
+     * @param database The database name.
+     * @return A future completing with the schema rows, sorted by label.
+     */
+    CompletableFuture<List<Map<String, Object>>> read(String database) {
+        Snapshot previous = snapshots.get(database);
+        CompletableFuture<Map<String, Long>> labelCounts = query(database, LABELS, Map.of())
+                .thenCompose(records -> labelCounts(database, records.stream().map(r -> r.get("label").asString()).toList()));
+        CompletableFuture<Map<String, Map<String, String>>> propertyTypes = previous == null
+                ? query(database, NODE_TYPE_PROPERTIES, Map.of()).thenApply(CatalogSchemaReader::propertyTypes)
+                : labelCounts.thenCompose(counts -> refreshChangedLabels(database, previous, counts));
+        CompletableFuture<Map<String, Set<String>>> indexed = query(database, INDEXES, Map.of())
+                .thenApply(CatalogSchemaReader::propertiesByLabel);
+        CompletableFuture<Map<String, Set<String>>> unique = query(database, CONSTRAINTS, Map.of())
+                .thenApply(CatalogSchemaReader::propertiesByLabel);
+        CompletableFuture<Map<String, Map<String, String>>> relationships = query(database, VISUALIZATION, Map.of())
+                .thenApply(CatalogSchemaReader::relationshipsByLabel);
+        return CompletableFuture.allOf(labelCounts, propertyTypes, indexed, unique, relationships).thenApply(ignored -> {
+            snapshots.put(database, new Snapshot(labelCounts.join(), propertyTypes.join()));
+            return merge(labelCounts.join().keySet(), propertyTypes.join(), indexed.join(), unique.join(), relationships.join());
+        });
+    }
+
+    private CompletableFuture<Map<String, Long>> labelCounts(String database, List<String> labels) {
+        if (labels.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        // Each branch is answered from the count store, which needs the label in the pattern; the name itself is a parameter
+        String countQuery = IntStream.range(0, labels.size())
+                .mapToObj(i -> String.format(LABEL_COUNT, escape(labels.get(i)), i))
+                .collect(Collectors.joining(" UNION ALL "));
+        return query(database, countQuery, Map.of("labels", labels)).thenApply(records -> records.stream()
+                .collect(Collectors.toMap(r -> r.get("label").asString(), r -> r.get("count").asLong())));
+    }
+
+    private CompletableFuture<Map<String, Map<String, String>>> refreshChangedLabels(
+            String database, Snapshot previous, Map<String, Long> counts) {
+        Map<String, Map<String, String>> propertyTypes = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> samples = new ArrayList<>();
+        counts.forEach((label, count) -> {
+            Map<String, String> known = previous.propertyTypes().get(label);
+            if (known != null && count.equals(previous.labelCounts().get(label))) {
+                propertyTypes.put(label, known);
+            } else {
+                samples.add(query(database, String.format(LABEL_SAMPLE, escape(label)), Map.of("sampleSize", sampleSize))
+                        .thenAccept(records -> propertyTypes.put(label, sampledTypes(records))));
+            }
+        });
+        logger.debug("Refreshing properties of {} of {} labels in database {}", samples.size(), counts.size(), database);
+        return CompletableFuture.allOf(samples.toArray(CompletableFuture[]::new)).thenApply(ignored -> propertyTypes);
+    }
+
+    private CompletableFuture<List<Record>> query(String database, String cypher, Map<String, Object> params) {
+        AsyncSession session = driver.session(AsyncSession.class, sessions.sessionConfig(target, database, AccessMode.READ));
+        return session.runAsync(cypher, params, transactionConfig)
+                .thenCompose(ResultCursor::listAsync)
+                .handle((records, error) -> session.closeAsync().thenCompose(ignored -> error == null
+                        ? CompletableFuture.completedFuture(records)
+                        : CompletableFuture.<List<Record>>failedFuture(error)))
+                .thenCompose(Function.identity())
+                .toCompletableFuture();
+    }
+
+    private static Map<String, Map<String, String>> propertyTypes(List<Record> records) {
+        Map<String, Map<String, String>> propertyTypes = new HashMap<>();
+        for (Record record : records) {
+            String property = record.get("propertyName").isNull() ? null : record.get("propertyName").asString();
+            List<String> types = record.get("propertyTypes").isNull()
+                    ? List.of() : record.get("propertyTypes").asList(Value::asString);
+            for (String label : record.get("nodeLabels").asList(Value::asString)) {
+                Map<String, String> properties = propertyTypes.computeIfAbsent(label, key -> new HashMap<>());
+                if (property != null && !types.isEmpty()) {
+                    properties.putIfAbsent(property, catalogType(types.get(0)));
+                }
+            }
+        }
+        return propertyTypes;
+    }
+
+    private static Map<String, String> sampledTypes(List<Record> records) {
+        Map<String, String> types = new HashMap<>();
+        for (Record record : records) {
+            Value properties = record.get("properties");
+            for (String key : properties.keys()) {
+                types.putIfAbsent(key, sampledType(properties.get(key)));
+            }
+        }
+        return types;
+    }
+
+    private static Map<String, Set<String>> propertiesByLabel(List<Record> records) {
+        Map<String, Set<String>> properties = new HashMap<>();
+        for (Record record : records) {
+            List<String> keys = record.get("properties").isNull() ? List.of() : record.get("properties").asList(Value::asString);
+            for (String label : record.get("labelsOrTypes").asList(Value::asString)) {
+                properties.computeIfAbsent(label, key -> new HashSet<>()).addAll(keys);
+            }
+        }
+        return properties;
+    }
+
+    private static Map<String, Map<String, String>> relationshipsByLabel(List<Record> records) {
+        Map<String, Map<String, String>> relationships = new HashMap<>();
+        for (Record record : records) {
+            Map<String, String> names = new HashMap<>();
+            for (Node node : record.get("nodes").asList(Value::asNode)) {
+                names.put(node.elementId(), node.get("name").asString());
+            }
+            for (Relationship relationship : record.get("relationships").asList(Value::asRelationship)) {
+                String start = names.get(relationship.startNodeElementId());
+                String end = names.get(relationship.endNodeElementId());
+                if (start != null && end != null) {
+                    relationships.computeIfAbsent(start, key -> new TreeMap<>()).putIfAbsent(relationship.type(), end);
+                }
+            }
+        }
+        return relationships;
+    }
+
+    private static List<Map<String, Object>> merge(Set<String> labels, Map<String, Map<String, String>> propertyTypes,
+                                                   Map<String, Set<String>> indexed, Map<String, Set<String>> unique,
+                                                   Map<String, Map<String, String>> relationships) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (String label : labels.stream().sorted().toList()) {
+            Map<String, Object> attributes = new TreeMap<>();
+            propertyTypes.getOrDefault(label, Map.of()).forEach((property, type) -> attributes.put(property, type
+                    + (unique.getOrDefault(label, Set.of()).contains(property) ? " unique" : "")
+                    + (indexed.getOrDefault(label, Set.of()).contains(property) ? " indexed" : "")));
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("label", label);
+            row.put("attributes", attributes);
+            row.put("relationships", new TreeMap<>(relationships.getOrDefault(label, Collections.emptyMap())));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Map a property type reported by db.schema.nodeTypeProperties() to the names used by apoc.meta.data().
+     */
+    private static String catalogType(String type) {
+        if (type.endsWith("Array")) {
+            return "LIST";
+        }
+        return switch (type) {
+            case "Long", "Integer", "Short", "Byte" -> "INTEGER";
+            case "Double", "Float" -> "FLOAT";
+            case "DateTime" -> "DATE_TIME";
+            case "LocalDateTime" -> "LOCAL_DATE_TIME";
+            case "LocalTime" -> "LOCAL_TIME";
+            default -> type.toUpperCase(Locale.ROOT);
+        };
+    }
+
+    private static String sampledType(Value value) {
+        String type = value.type().name();
+        return type.startsWith("LIST") ? "LIST" : type;
+    }
+
+    private static String escape(String name) {
+        return "`" + name.replace("`", "``") + "`";
+    }
+}
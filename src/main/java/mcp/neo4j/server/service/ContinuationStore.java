@@ -0,0 +1,72 @@
+package mcp.neo4j.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 10:25
+ * @description Holds the position of truncated read results so that agents can page through them.
+ * A token belongs to the client whose call issued it; other clients cannot redeem it.
+ */
+@Component
+public class ContinuationStore {
+
+    private final Cache<String, Continuation> continuations;
+
+    /**
+     * @param ttl              How long a continuation token stays valid after it was issued
+     * @param maxContinuations Maximum number of continuation tokens held at the same time
+     */
+    public ContinuationStore(
+            @Value("${neo4j.result.continuation-ttl:10m}") Duration ttl,
+            @Value("${neo4j.result.max-continuations:10000}") long maxContinuations) {
+        this.continuations = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxContinuations)
+                .build();
+    }
+
+    /**
+     * Remember where the next page of a result starts.
+     *
+     * @param client  The client the result was read for, or null if the call has none.
+     * @param query   The original Cypher query.
+     * @param params  The original query parameters.
+     * @param offset  The number of records already returned.
+     * @param options The per-call settings of the query.
+     * @return The continuation token.
+     */
+    public String save(String client, String query, Map<String, Object> params, long offset, QueryOptions options) {
+        String token = UUID.randomUUID().toString();
+        continuations.put(token, new Continuation(client, query, params, offset, options));
+        return token;
+    }
+
+    /**
+     * Look up a continuation token. Tokens stay valid until they expire so that a page can be retried.
+     *
+     * @param client The client presenting the token, or null if the call has none.
+     * @param token  The continuation token.
+     * @return The continuation.
+     * @throws IllegalArgumentException if the token is unknown, expired or was issued to another client.
+     */
+    public Continuation get(String client, String token) {
+        Continuation continuation = token == null ? null : continuations.getIfPresent(token);
+        // A token of another client is reported like an unknown one, so its existence is not revealed
+        if (continuation == null || !Objects.equals(continuation.client(), client)) {
+            throw new IllegalArgumentException("Unknown or expired continuation token, run the original query again");
+        }
+        return continuation;
+    }
+
+    public record Continuation(String client, String query, Map<String, Object> params, long offset, QueryOptions options) {
+    }
+}
@@ -0,0 +1,15 @@
+package mcp.neo4j.server.service;
+
+import org.springframework.ai.tool.annotation.ToolParam;
+
+import java.util.Map;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 14:20
+ * @description One statement of a multi-statement tool call.
+ */
+public record CypherStatement(
+        @ToolParam(description = "Cypher query to execute") String query,
+        @ToolParam(description = "Query parameters referenced as $name in the query", required = false) Map<String, Object> params) {
+}
@@ -0,0 +1,67 @@
+package mcp.neo4j.server.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 22:00
+ * @description The databases the tools may run against. A tool call without a {@code database} argument uses
+ * {@code neo4j.database}; when that is empty it uses the home database of the configured user, which
+ * {@link Neo4jService} resolves once and caches. The databases in {@code neo4j.databases.names} are warmed up at
+ * startup, and with {@code neo4j.databases.allow-unlisted=false} they are the only other databases accepted.
+ */
+@Component
+public class Databases {
+
+    // Name under which calls for the home database are counted before it is resolved
+    public static final String HOME = "";
+
+    private final String defaultDatabase;
+    private final Set<String> names;
+    private final boolean allowUnlisted;
+
+    /**
+     * @param defaultDatabase The database of calls that do not name one, empty for the user's home database
+     * @param names           Databases warmed up at startup
+     * @param allowUnlisted   Whether calls may name databases that are not listed
+     */
+    public Databases(
+            @Value("${neo4j.database:neo4j}") String defaultDatabase,
+            @Value("${neo4j.databases.names:}") List<String> names,
+            @Value("${neo4j.databases.allow-unlisted:true}") boolean allowUnlisted) {
+        this.defaultDatabase = defaultDatabase == null ? HOME : defaultDatabase.strip();
+        this.names = new LinkedHashSet<>();
+        this.names.add(this.defaultDatabase);
+        names.stream().map(String::strip).filter(name -> !name.isEmpty()).forEach(this.names::add);
+        this.allowUnlisted = allowUnlisted;
+    }
+
+    /**
+     * @param requested The database named by a tool call, or null.
+     * @return The database the call runs against, {@link #HOME} for the home database.
+     * @throws IllegalArgumentException if the database is not served.
+     */
+    public String name(String requested) {
+        if (requested == null || requested.isBlank()) {
+            return defaultDatabase;
+        }
+        String name = requested.strip();
+        if (!allowUnlisted && !names.contains(name)) {
+            throw new IllegalArgumentException("Database '" + name + "' is not served here, use one of "
+                    + names.stream().map(database -> database.isEmpty() ? "the default" : database).toList());
+        }
+        return name;
+    }
+
+    /**
+     * @return The default database followed by the listed ones, {@link #HOME} standing for the home database.
+     */
+    public Set<String> warmed() {
+        return names;
+    }
+}
@@ -0,0 +1,161 @@
+package mcp.neo4j.server.service;
+
+import org.neo4j.driver.Config;
+import org.neo4j.driver.NotificationClassification;
+import org.neo4j.driver.NotificationSeverity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 16:00
+ * @description Neo4j driver settings from {@code neo4j.driver.*}. The defaults favour failing fast: a tool call
+ * that cannot get a pooled connection within a few seconds fails instead of queueing for minutes.
+ */
+@Component
+public class DriverSettings {
+
+    private final int maxConnectionPoolSize;
+    private final Duration connectionAcquisitionTimeout;
+    private final Duration connectionTimeout;
+    private final Duration maxConnectionLifetime;
+    private final Duration idleLivenessCheck;
+    private final Duration maxTransactionRetryTime;
+    private final long fetchSize;
+    private final int eventLoopThreads;
+    private final boolean encrypted;
+    private final String trustStrategy;
+    private final String minimumNotificationSeverity;
+    private final List<String> disabledNotificationClassifications;
+    private final boolean metrics;
+
+    /**
+     * @param maxConnectionPoolSize               Maximum number of connections per cluster member
+     * @param connectionAcquisitionTimeout        How long a session waits for a free pooled connection before failing
+     * @param connectionTimeout                   How long establishing a new TCP connection may take
+     * @param maxConnectionLifetime               Age after which pooled connections are closed
+     * @param idleLivenessCheck                   Idle time after which a pooled connection is tested before use, empty to never test
+     * @param maxTransactionRetryTime             How long transaction functions keep retrying transient failures
+     * @param fetchSize                           Default number of records pulled per batch
+     * @param eventLoopThreads                    Number of driver I/O threads, 0 for the driver default
+     * @param encrypted                           Whether to encrypt connections for bolt:// and neo4j:// URIs
+     * @param trustStrategy                       With encryption: "system", "all" or the path of a trusted certificate file
+     * @param minimumNotificationSeverity         Lowest notification severity the server sends: INFORMATION, WARNING or OFF, empty for the server default
+     * @param disabledNotificationClassifications Notification classifications the server should not send, e.g. HINT, UNRECOGNIZED
+     * @param metrics                             Whether the driver collects connection pool metrics for the pool gauges
+     */
+    public DriverSettings(
+            @Value("${neo4j.driver.max-connection-pool-size:100}") int maxConnectionPoolSize,
+            @Value("${neo4j.driver.connection-acquisition-timeout:5s}") Duration connectionAcquisitionTimeout,
+            @Value("${neo4j.driver.connection-timeout:5s}") Duration connectionTimeout,
+            @Value("${neo4j.driver.max-connection-lifetime:1h}") Duration maxConnectionLifetime,
+            @Value("${neo4j.driver.idle-liveness-check:}") Duration idleLivenessCheck,
+            @Value("${neo4j.driver.max-transaction-retry-time:30s}") Duration maxTransactionRetryTime,
+            @Value("${neo4j.driver.fetch-size:1000}") long fetchSize,
+            @Value("${neo4j.driver.event-loop-threads:0}") int eventLoopThreads,
+            @Value("${neo4j.driver.encrypted:false}") boolean encrypted,
+            @Value("${neo4j.driver.trust-strategy:system}") String trustStrategy,
+            @Value("${neo4j.driver.notifications.minimum-severity:}") String minimumNotificationSeverity,
+            @Value("${neo4j.driver.notifications.disabled-classifications:}") List<String> disabledNotificationClassifications,
+            @Value("${neo4j.driver.metrics:true}") boolean metrics) {
+        this.maxConnectionPoolSize = maxConnectionPoolSize;
+        this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+        this.connectionTimeout = connectionTimeout;
+        this.maxConnectionLifetime = maxConnectionLifetime;
+        this.idleLivenessCheck = idleLivenessCheck;
+        this.maxTransactionRetryTime = maxTransactionRetryTime;
+        this.fetchSize = fetchSize;
+        this.eventLoopThreads = eventLoopThreads;
+        this.encrypted = encrypted;
+        this.trustStrategy = trustStrategy;
+        this.minimumNotificationSeverity = minimumNotificationSeverity;
+        this.disabledNotificationClassifications = disabledNotificationClassifications;
+        this.metrics = metrics;
+    }
+
+    public int maxConnectionPoolSize() {
+        return maxConnectionPoolSize;
+    }
+
+    public Duration connectionAcquisitionTimeout() {
+        return connectionAcquisitionTimeout;
+    }
+
+    public boolean metrics() {
+        return metrics;
+    }
+
+    /**
+     * Build the driver configuration.
+     *
+     * @return The Neo4j Config object.
+     */
+    public Config toConfig() {
+        return toConfig(maxConnectionPoolSize, connectionAcquisitionTimeout);
+    }
+
+    /**
+     * Build the driver configuration of a target with pool settings of its own.
+     *
+     * @param maxConnectionPoolSize        Maximum number of connections per cluster member
+     * @param connectionAcquisitionTimeout How long a session waits for a free pooled connection before failing
+     * @return The Neo4j Config object.
+     */
+    public Config toConfig(int maxConnectionPoolSize, Duration connectionAcquisitionTimeout) {
+        Config.ConfigBuilder builder = Config.builder()
+                .withMaxConnectionPoolSize(maxConnectionPoolSize)
+                .withConnectionAcquisitionTimeout(connectionAcquisitionTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .withConnectionTimeout(connectionTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .withMaxConnectionLifetime(maxConnectionLifetime.toMillis(), TimeUnit.MILLISECONDS)
+                .withMaxTransactionRetryTime(maxTransactionRetryTime.toMillis(), TimeUnit.MILLISECONDS)
+                .withFetchSize(fetchSize);
+        if (metrics) {
+            builder.withDriverMetrics();
+        }
+        if (idleLivenessCheck != null) {
+            builder.withConnectionLivenessCheckTimeout(idleLivenessCheck.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (eventLoopThreads > 0) {
+            builder.withEventLoopThreads(eventLoopThreads);
+        }
+        // neo4j+s:// and bolt+s:// already imply encryption and reject an explicit setting
+        if (encrypted) {
+            builder.withEncryption().withTrustStrategy(trustStrategy());
+        }
+        if (minimumNotificationSeverity != null && !minimumNotificationSeverity.isBlank()) {
+            builder.withMinimumNotificationSeverity(notificationSeverity(minimumNotificationSeverity));
+        }
+        if (!disabledNotificationClassifications.isEmpty()) {
+            Set<NotificationClassification> classifications = disabledNotificationClassifications.stream()
+                    .map(name -> NotificationClassification.valueOf(name.strip().toUpperCase(Locale.ROOT)))
+                    .collect(Collectors.toSet());
+            builder.withDisabledNotificationClassifications(classifications);
+        }
+        return builder.build();
+    }
+
+    private Config.TrustStrategy trustStrategy() {
+        return switch (trustStrategy.strip().toLowerCase(Locale.ROOT)) {
+            case "system" -> Config.TrustStrategy.trustSystemCertificates();
+            case "all" -> Config.TrustStrategy.trustAllCertificates();
+            default -> Config.TrustStrategy.trustCustomCertificateSignedBy(new File(trustStrategy.strip()));
+        };
+    }
+
+    private static NotificationSeverity notificationSeverity(String name) {
+        return switch (name.strip().toUpperCase(Locale.ROOT)) {
+            case "INFORMATION" -> NotificationSeverity.INFORMATION;
+            case "WARNING" -> NotificationSeverity.WARNING;
+            case "OFF" -> NotificationSeverity.OFF;
+            default -> throw new IllegalArgumentException("Unknown notification severity '" + name + "', expected INFORMATION, WARNING or OFF");
+        };
+    }
+}
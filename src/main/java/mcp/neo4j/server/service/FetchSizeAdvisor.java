@@ -0,0 +1,103 @@
+package mcp.neo4j.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import mcp.neo4j.server.cypher.CypherLimit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 16:30
+ * @description Chooses how many records the driver pulls from the server per batch for a read query.
+ * A fetch size given with the tool call wins. Otherwise the configured driver fetch size is used, unless
+ * adaptive fetching is enabled: then the batch is sized so that it holds about {@code neo4j.read.fetch-target-bytes}
+ * based on the row width observed for the same query text before, and never exceeds the LIMIT of the final
+ * RETURN or the row budget of a tool call.
+ */
+@Component
+public class FetchSizeAdvisor {
+
+    // Weight of the latest observation in the running average of the row width
+    private static final double WIDTH_SMOOTHING = 0.3;
+
+    private final boolean adaptive;
+    private final long defaultFetchSize;
+    private final long targetBatchBytes;
+    private final long maxFetchSize;
+    private final ResultBudget resultBudget;
+    private final Cache<String, Double> rowWidths;
+
+    /**
+     * @param adaptive         Whether fetch sizes are derived from the query's LIMIT and observed row widths
+     * @param defaultFetchSize The driver fetch size used when no other size applies
+     * @param targetBatchBytes Approximate size of one fetched batch in adaptive mode
+     * @param maxFetchSize     Largest fetch size chosen in adaptive mode
+     * @param widthCacheSize   Number of query texts whose row width is remembered
+     * @param resultBudget     Row limit of a tool call
+     */
+    public FetchSizeAdvisor(
+            @Value("${neo4j.read.adaptive-fetch-size:false}") boolean adaptive,
+            @Value("${neo4j.driver.fetch-size:1000}") long defaultFetchSize,
+            @Value("${neo4j.read.fetch-target-bytes:1048576}") long targetBatchBytes,
+            @Value("${neo4j.read.max-fetch-size:10000}") long maxFetchSize,
+            @Value("${neo4j.read.row-width-cache-size:10000}") long widthCacheSize,
+            ResultBudget resultBudget) {
+        this.adaptive = adaptive;
+        this.defaultFetchSize = defaultFetchSize;
+        this.targetBatchBytes = targetBatchBytes;
+        this.maxFetchSize = maxFetchSize;
+        this.resultBudget = resultBudget;
+        this.rowWidths = Caffeine.newBuilder().maximumSize(widthCacheSize).build();
+    }
+
+    public long defaultFetchSize() {
+        return defaultFetchSize;
+    }
+
+    /**
+     * @param query     The Cypher query string.
+     * @param params    The query parameters.
+     * @param requested The fetch size passed with the tool call, or null.
+     * @return The number of records to pull per batch, at least 1.
+     */
+    public long fetchSize(String query, Map<String, Object> params, Integer requested) {
+        if (requested != null && requested > 0) {
+            return requested;
+        }
+        if (!adaptive) {
+            return defaultFetchSize;
+        }
+        long fetchSize = defaultFetchSize;
+        Double rowWidth = rowWidths.getIfPresent(query);
+        if (rowWidth != null && rowWidth > 0) {
+            fetchSize = Math.min(maxFetchSize, (long) (targetBatchBytes / rowWidth));
+        }
+        Long limit = CypherLimit.returnLimit(query, params);
+        if (limit != null) {
+            fetchSize = Math.min(fetchSize, limit);
+        }
+        if (resultBudget.maxRows() > 0) {
+            // One more than the budget tells whether the result was truncated
+            fetchSize = Math.min(fetchSize, resultBudget.maxRows() + 1L);
+        }
+        return Math.max(1, fetchSize);
+    }
+
+    /**
+     * Remember the width of the rows a query returned, for sizing the next fetch of the same query.
+     *
+     * @param query The Cypher query string.
+     * @param rows  The number of records returned.
+     * @param bytes The JSON size of those records.
+     */
+    public void observe(String query, int rows, long bytes) {
+        if (!adaptive || rows == 0 || bytes == 0) {
+            return;
+        }
+        double width = (double) bytes / rows;
+        rowWidths.asMap().merge(query, width, (old, latest) -> old + WIDTH_SMOOTHING * (latest - old));
+    }
+}
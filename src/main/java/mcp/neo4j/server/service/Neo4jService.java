@@ -1,23 +1,55 @@
 package mcp.neo4j.server.service;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import mcp.neo4j.server.cypher.CypherClassifier;
+import mcp.neo4j.server.cypher.CypherClassifier.QueryKind;
+import mcp.neo4j.server.cypher.CypherPaging;
+import mcp.neo4j.server.cypher.CypherParameterizer;
+import mcp.neo4j.server.cypher.CypherParameterizer.Parameterized;
+import mcp.neo4j.server.json.RawJson;
+import mcp.neo4j.server.json.RecordJsonWriter;
+import mcp.neo4j.server.json.ResultFormat;
+import mcp.neo4j.server.service.Neo4jTargets.Target;
 import org.neo4j.driver.*;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.async.AsyncQueryRunner;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.AsyncTransactionCallback;
+import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.exceptions.Neo4jException;
+import org.neo4j.driver.reactivestreams.ReactiveResult;
+import org.neo4j.driver.reactivestreams.ReactiveSession;
+import org.neo4j.driver.reactivestreams.ReactiveTransactionCallback;
+import org.neo4j.driver.summary.QueryType;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
 import org.neo4j.driver.types.MapAccessor;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * @author neo4j-contrib and dsimile
@@ -25,11 +57,31 @@ import java.util.regex.Pattern;
  * @description
  */
 @Service
-public class Neo4jService implements AutoCloseable {
+public class Neo4jService {
 
     private static final Logger logger = LoggerFactory.getLogger(Neo4jService.class);
-    private final Driver driver;
-    private final String databaseName;
+    private final Neo4jTargets targets;
+    private final Databases databases;
+    private final AsyncLoadingCache<String, String> homeDatabases;
+    private final int readBatchSize;
+    private final ResultBudget resultBudget;
+    private final FetchSizeAdvisor fetchSizeAdvisor;
+    private final QueryMetrics queryMetrics;
+    private final QueryStats queryStats;
+    private final ContinuationStore continuationStore;
+    private final ResultCache resultCache;
+    private final CypherClassifier classifier;
+    private final BookmarkSessions sessions;
+    private final AsyncCache<String, AccessMode> explainedAccessModes;
+    private final AsyncLoadingCache<SchemaKey, List<Map<String, Object>>> schemaCache;
+    private final Map<String, CatalogSchemaReader> catalogSchemaReaders = new ConcurrentHashMap<>();
+    private final boolean catalogSchema;
+    private final int schemaSampleSize;
+    private final boolean autoParameterize;
+    private final int batchChunkSize;
+    private final Duration queryTimeout;
+    private final TransactionConfig defaultTransactionConfig;
+    private static final String TARGET_DESCRIPTION = "Neo4j target to run against, one of the configured targets; leave unset for the default target";
     private static final String SCHEMA = """
             call apoc.meta.data() yield label, property, type, other, unique, index, elementType
             where elementType = 'node' and not label starts with '_'
@@ -39,145 +91,1317 @@ public class Neo4jService implements AutoCloseable {
             RETURN label, apoc.map.fromPairs(attributes) as attributes, apoc.map.fromPairs(relationships) as relationships
                                 """;
 
-    // Checks if a Cypher query contains common write clauses.
-    private static final Pattern WRITE_QUERY_PATTERN = Pattern.compile(
-            "\\b(MERGE|CREATE|SET|DELETE|REMOVE|ADD)\\b", Pattern.CASE_INSENSITIVE
-    );
-
     /**
-     * Initialize connection to the neo4j database.
+     * Initialize the service on top of the connected targets.
      *
-     * @param uri          Neo4j connection URI (e.g., "neo4j://localhost:7687")
-     * @param username     Database username
-     * @param password     Database password
-     * @param databaseName Database name (e.g., "neo4j")
+     * @param targets               The Neo4j targets and their drivers
+     * @param databases             The databases tool calls may run against
+     * @param homeDatabaseTtl       How long the resolved home database of the user is reused
+     * @param warmSchema            Whether the schema of the configured databases is loaded at startup
+     * @param readBatchSize         Number of records pulled from the driver per batch when streaming reads
+     * @param resultBudget          Row and byte limits for read results
+     * @param fetchSizeAdvisor      Chooses the driver fetch size of read queries
+     * @param queryMetrics          Records result sizes, database errors and connection pool state
+     * @param queryStats            Keeps execution statistics per query fingerprint and logs slow queries
+     * @param sessions              Session settings, chaining the sessions of each client through bookmarks
+     * @param continuationStore     Holds the continuation tokens of truncated read results
+     * @param resultCache           Serves repeated reads from memory until a write may have changed their result
+     * @param classifier            Classifies queries as read or write
+     * @param explainCacheSize      Number of queries whose EXPLAIN-based access mode is cached
+     * @param schemaCacheTtl        How long a cached schema may be served at most
+     * @param schemaRefreshInterval Age after which a cached schema is reloaded in the background
+     * @param schemaEngine          How the schema is read: "apoc" for apoc.meta.data(), "catalog" for the built-in catalog procedures
+     * @param schemaSampleSize      Nodes sampled per changed label when the catalog engine refreshes a schema
+     * @param autoParameterize      Whether literals in tool queries are rewritten into parameters
+     * @param batchChunkSize        Number of rows written per transaction by the batch write tool
+     * @param queryTimeout          Transaction timeout of tool queries unless a call sets its own, 0 for the server default
      */
     public Neo4jService(
-            @Value("${neo4j.uri}") String uri,
-            @Value("${neo4j.username}") String username,
-            @Value("${neo4j.password}") String password,
-            @Value("${neo4j.database:neo4j}") String databaseName) {
-        logger.debug("Initializing database connection to {} for database {}", uri, databaseName);
-        this.driver = GraphDatabase.driver(uri, AuthTokens.basic(username, password), config());
+            Neo4jTargets targets,
+            Databases databases,
+            @Value("${neo4j.databases.home-database-ttl:10m}") Duration homeDatabaseTtl,
+            @Value("${neo4j.databases.warm-schema:true}") boolean warmSchema,
+            @Value("${neo4j.read.batch-size:1000}") int readBatchSize,
+            ResultBudget resultBudget,
+            FetchSizeAdvisor fetchSizeAdvisor,
+            QueryMetrics queryMetrics,
+            QueryStats queryStats,
+            BookmarkSessions sessions,
+            ContinuationStore continuationStore,
+            ResultCache resultCache,
+            CypherClassifier classifier,
+            @Value("${neo4j.query.explain-cache-size:10000}") long explainCacheSize,
+            @Value("${neo4j.schema.cache-ttl:1h}") Duration schemaCacheTtl,
+            @Value("${neo4j.schema.refresh-interval:10m}") Duration schemaRefreshInterval,
+            @Value("${neo4j.schema.engine:apoc}") String schemaEngine,
+            @Value("${neo4j.schema.sample-size:100}") int schemaSampleSize,
+            @Value("${neo4j.query.auto-parameterize:false}") boolean autoParameterize,
+            @Value("${neo4j.batch.chunk-size:1000}") int batchChunkSize,
+            @Value("${neo4j.query.timeout:60s}") Duration queryTimeout) {
+        this.targets = targets;
+        this.databases = databases;
+        this.readBatchSize = readBatchSize;
+        this.resultBudget = resultBudget;
+        this.fetchSizeAdvisor = fetchSizeAdvisor;
+        this.queryMetrics = queryMetrics;
+        this.queryStats = queryStats;
+        this.continuationStore = continuationStore;
+        this.resultCache = resultCache;
+        this.classifier = classifier;
+        this.autoParameterize = autoParameterize;
+        this.batchChunkSize = batchChunkSize;
+        this.queryTimeout = queryTimeout == null || queryTimeout.isZero() ? null : queryTimeout;
+        this.defaultTransactionConfig = this.queryTimeout == null
+                ? TransactionConfig.empty()
+                : TransactionConfig.builder().withTimeout(this.queryTimeout).build();
+        this.sessions = sessions;
+        this.explainedAccessModes = Caffeine.newBuilder()
+                .maximumSize(explainCacheSize)
+                .buildAsync();
+        this.catalogSchema = "catalog".equalsIgnoreCase(schemaEngine);
+        this.schemaSampleSize = schemaSampleSize;
+        // Entries are reloaded in the background once they are older than the refresh interval,
+        // while callers keep getting the cached schema until the reload completes
+        this.schemaCache = Caffeine.newBuilder()
+                .expireAfterWrite(schemaCacheTtl)
+                .refreshAfterWrite(schemaRefreshInterval)
+                .buildAsync((key, executor) -> schema(targets.named(key.target()), key.database()));
+        // Naming the database in every session saves the driver from resolving the home database per session
+        this.homeDatabases = Caffeine.newBuilder()
+                .expireAfterWrite(homeDatabaseTtl)
+                .buildAsync((target, executor) -> homeDatabase(targets.named(target)));
+        warm(warmSchema);
+    }
+
+    /**
+     * @param target   The name of the target.
+     * @param database The database on the target.
+     */
+    private record SchemaKey(String target, String database) {
+    }
+
+    /**
+     * Resolve the database of a tool call.
+     *
+     * @param target    The target the call runs on.
+     * @param requested The database named by the call, or null.
+     * @return A future completing with the name of the database to run against.
+     * @throws IllegalArgumentException if the database is not served.
+     */
+    private CompletableFuture<String> database(Target target, String requested) {
+        return resolved(target, databases.name(requested));
+    }
+
+    private CompletableFuture<String> resolved(Target target, String name) {
+        return Databases.HOME.equals(name) ? homeDatabases.get(target.name()) : CompletableFuture.completedFuture(name);
+    }
+
+    /**
+     * Blocking variant of {@link #database(Target, String)}.
+     */
+    private String databaseNow(Target target, String requested) {
+        return await(database(target, requested));
+    }
+
+    /**
+     * Wait for a future on the calling thread and rethrow the runtime exception it failed with, rather than the
+     * {@link CompletionException} wrapping it, so that e.g. an {@link IllegalArgumentException} reaches the caller
+     * as is.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
         try {
-            driver.verifyConnectivity();
-            logger.info("Successfully connected to Neo4j at {} and database {}", uri, databaseName);
-        } catch (Exception e) {
-            logger.error("Failed to verify connectivity to Neo4j: {}", e.getMessage());
-            throw new Neo4jException("Neo4j connectivity failed", e);
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
-        this.databaseName = databaseName;
+    }
+
+    private CompletableFuture<String> homeDatabase(Target target) {
+        return withAsyncSession(target, sessions.sessionConfig(target.name(), "system", AccessMode.READ),
+                session -> session.runAsync("SHOW HOME DATABASE YIELD name").thenCompose(ResultCursor::singleAsync))
+                .thenApply(record -> {
+                    String name = record.get("name").asString();
+                    logger.info("Resolved home database of {} on target {} to {}", target.username(), target.name(), name);
+                    return name;
+                });
     }
 
     /**
-     * Defines the configuration for the Neo4j driver.
-     *
-     * @return The Neo4j Config object.
+     * Open a connection to each configured database of every healthy target and optionally load its schema in the
+     * background, so that the first tool calls find the routing table, a pooled connection and the schema in place.
+     * Failures are only logged.
      */
-    private Config config() {
-        return Config.builder()
-                .withConnectionTimeout(300, TimeUnit.SECONDS)
-                .withMaxConnectionPoolSize(100)
-                .withMaxConnectionLifetime(1, TimeUnit.HOURS)
-                .withConnectionAcquisitionTimeout(600, TimeUnit.SECONDS)
-                .withMaxTransactionRetryTime(300, TimeUnit.SECONDS)
-                .build();
+    private void warm(boolean warmSchema) {
+        for (Target target : targets.all()) {
+            if (!target.healthy()) {
+                continue;
+            }
+            for (String name : databases.warmed()) {
+                resolved(target, name)
+                        // Beginning a transaction fetches the routing table and opens a connection, on the system database too
+                        .thenCompose(database -> withAsyncSession(target, sessions.sessionConfig(target.name(), database, AccessMode.READ),
+                                session -> session.beginTransactionAsync().thenCompose(AsyncTransaction::rollbackAsync))
+                                .thenCompose(ignored -> warmSchema
+                                        ? schemaCache.get(new SchemaKey(target.name(), database))
+                                        : CompletableFuture.completedFuture(null))
+                                .thenApply(ignored -> database))
+                        .whenComplete((database, error) -> {
+                            if (error == null) {
+                                logger.info("Warmed up database {} on target {}", database, target.name());
+                            } else {
+                                logger.warn("Could not warm up database {} on target {}: {}", name.isEmpty() ? "home" : name, target.name(), error.getMessage());
+                            }
+                        });
+            }
+        }
     }
 
     /**
-     * Checks if a Cypher query contains common write clauses.
+     * Checks if a Cypher query contains write clauses or calls a procedure known to write.
      *
      * @param query The Cypher query string.
      * @return true if the query contains write clauses, false otherwise.
      */
     public boolean isWriteQuery(String query) {
-        return WRITE_QUERY_PATTERN.matcher(query).find();
+        return classifier.classify(query) == QueryKind.WRITE;
     }
 
     /**
-     * Execute a Cypher query and return results as a list of dictionaries (Maps).
-     * For write queries, returns a list containing a single map of counters.
-     * For read queries, returns a list of maps, where each map represents a record.
+     * Checks if a Cypher query is known to only read. Procedure calls whose effects cannot be
+     * determined from the query text are neither read-only nor write queries.
+     *
+     * @param query The Cypher query string.
+     * @return true if the query only reads, false otherwise.
+     */
+    public boolean isReadOnlyQuery(String query) {
+        return classifier.classify(query) == QueryKind.READ;
+    }
+
+    /**
+     * Execute a Cypher query and return results as a JSON array.
+     * For write queries, the array holds a single object of counters.
+     * For read queries, the array holds one object per record, written by {@link RecordJsonWriter}.
+     * Read results are cut off at the configured {@link ResultBudget}; a truncated result ends with
+     * an object holding the continuation token for the next page.
      *
      * @param query  The Cypher query string.
      * @param params Optional parameters for the query.
-     * @return A list of maps representing the query results or write counters.
-     * @throws RuntimeException if a database error occurs.
+     * @return A JSON array of the query results or write counters.
+     * @throws QueryFailedException if the database failed the query.
      */
-    public List<Map<String, Object>> executeQuery(String query, Map<String, Object> params) {
-        logger.info("Executing query: {}", query);
-        if (params == null) {
-            params = Collections.emptyMap();
-        }
-        try (Session session = driver.session(SessionConfig.forDatabase(databaseName))) {
-            Result result = session.run(query, params);
+    public RawJson executeQuery(String query, Map<String, Object> params) {
+        return executeQuery(query, params, QueryOptions.DEFAULT);
+    }
+
+    /**
+     * Variant of {@link #executeQuery(String, Map)} that applies per-call settings to read results.
+     *
+     * @param query   The Cypher query string.
+     * @param params  Optional parameters for the query.
+     * @param options The layout, fetch size, transaction timeout and database of the call.
+     * @return A JSON document of the query results, or a JSON array of write counters.
+     */
+    public RawJson executeQuery(String query, Map<String, Object> params, QueryOptions options) {
+        return executeQuery(query, params, 0, options);
+    }
 
+    private RawJson executeQuery(String query, Map<String, Object> params, long offset, QueryOptions requestedOptions) {
+        boolean readOnly = isReadOnlyQuery(query);
+        Target target = targets.target(requestedOptions.target(), readOnly);
+        String database = databaseNow(target, requestedOptions.database());
+        QueryOptions options = requestedOptions.withTarget(target.name(), database);
+        Map<String, Object> queryParams = params == null ? Collections.emptyMap() : params;
+        ResultCache.Lookup cached = readOnly && offset == 0 ? resultCache.lookup(target.name(), database, query, queryParams, options.format()) : null;
+        if (cached != null && cached.page() != null) {
+            logger.debug("Serving read from the result cache");
+            return cached.page();
+        }
+        AccessMode accessMode = await(accessMode(target, database, query, queryParams, options.readTool()));
+        QueryStats.Execution execution = queryStats.start(database, query);
+        logger.info("Executing query {}", execution.id());
+        logger.debug("Query {}: {}", execution.id(), query);
+        Query pagedQuery = pagedQuery(query, queryParams, offset);
+        boolean writeQuery = isWriteQuery(query);
+        try (Session session = target.driver().session(sessions.sessionConfig(target.name(), ToolClient.current(), database, accessMode,
+                writeQuery ? null : fetchSize(query, queryParams, options)));
+             ToolCallSessions.Tracked ignored = ToolCallSessions.track(session)) {
             // For write queries, return a map representing the counters
-            if (isWriteQuery(query)) {
-                ResultSummary summary = result.consume(); // Consume the result to get the summary
-                SummaryCounters counters = summary.counters();
-                Map<String, Object> counterMap = new HashMap<>();
-                counterMap.put("nodesCreated", counters.nodesCreated());
-                counterMap.put("nodesDeleted", counters.nodesDeleted());
-                counterMap.put("relationshipsCreated", counters.relationshipsCreated());
-                counterMap.put("relationshipsDeleted", counters.relationshipsDeleted());
-                counterMap.put("propertiesSet", counters.propertiesSet());
-                counterMap.put("labelsAdded", counters.labelsAdded());
-                counterMap.put("labelsRemoved", counters.labelsRemoved());
-                counterMap.put("indexesAdded", counters.indexesAdded());
-                counterMap.put("indexesRemoved", counters.indexesRemoved());
-                counterMap.put("constraintsAdded", counters.constraintsAdded());
-                counterMap.put("constraintsRemoved", counters.constraintsRemoved());
-                counterMap.put("systemUpdates", counters.systemUpdates());
-                counterMap.put("containsSystemUpdates", counters.containsSystemUpdates());
-                counterMap.put("containsUpdates", counters.containsUpdates());
-                logger.debug("Write query affected: {}", counterMap);
-                return List.of(counterMap);
+            if (writeQuery) {
+                ResultSummary summary = run(session, accessMode, pagedQuery, transactionConfig(options), Result::consume); // Consume the result to get the summary
+                execution.summary(summary);
+                return writeSummary(target, database, summary);
             } else {
-                List<Map<String, Object>> records = result.list(MapAccessor::asMap);
-                logger.info("Read query returned {} rows", records.size());
-                return records;
+                return run(session, accessMode, pagedQuery, transactionConfig(options),
+                        result -> readPage(result, query, queryParams, offset, options, execution, cached));
             }
         } catch (Neo4jException e) {
+            failOnLimits(target, e, options.timeout());
             logger.error("Database error executing query: {}\nQuery: {}", e.getMessage(), query, e);
-            return Collections.emptyList();
+            queryMetrics.databaseError(e);
+            throw new QueryFailedException(e);
+        } finally {
+            finish(target, execution, queryParams);
+            invalidateResults(target, database, query);
         }
     }
 
     /**
-     * Close the Neo4j Driver.
+     * Run a query through a transaction function matching the access mode, so that the routing driver
+     * sends reads to followers and read replicas. Queries that manage their own transactions run in
+     * auto-commit mode on a session with the same default access mode.
+     * The transaction config carries the timeout after which the database terminates the query.
      */
-    @Override
-    public void close() {
-        if (driver != null) {
-            try {
-                driver.close();
-                logger.info("Neo4j driver closed successfully.");
-            } catch (Exception e) {
-                logger.error("Error closing Neo4j driver: {}", e.getMessage(), e);
+    private <T> T run(Session session, AccessMode accessMode, Query query, TransactionConfig config, Function<Result, T> handler) {
+        if (classifier.requiresAutoCommit(query.text())) {
+            return handler.apply(session.run(query, config));
+        }
+        return accessMode == AccessMode.READ
+                ? session.executeRead(tx -> handler.apply(tx.run(query)), config)
+                : session.executeWrite(tx -> handler.apply(tx.run(query)), config);
+    }
+
+    private RawJson readPage(Result result, String query, Map<String, Object> params, long offset, QueryOptions options,
+                             QueryStats.Execution execution, ResultCache.Lookup cached) {
+        ResultBudget.Tracker tracker = resultBudget.tracker();
+        try (RecordJsonWriter writer = RecordJsonWriter.open(options.format(), result.keys())) {
+            while (result.hasNext() && tracker.tryAdd(result.peek())) {
+                writer.write(result.next());
+            }
+            logger.debug("Read query returned {} rows", tracker.rows());
+            if (tracker.isExhausted()) {
+                writer.writeContinuation(continuation(ToolClient.current(), query, params, offset, tracker.rows(), options));
             }
+            RawJson page = writer.finish();
+            fetchSizeAdvisor.observe(query, tracker.rows(), page.json().length());
+            queryMetrics.result(options.database(), tracker.rows(), page.json().length());
+            execution.rows(tracker.rows());
+            // Discards the records beyond the page and yields the plan and db hits of profiled queries
+            execution.summary(result.consume());
+            if (!tracker.isExhausted()) {
+                resultCache.put(cached, page);
+            }
+            return page;
         }
     }
 
-    @Tool(name = "get-neo4j-schema", description = "List all node types, their attributes and their relationships TO other node-types in the neo4j database")
-    public List<Map<String, Object>> neo4jSchema() {
-        return executeQuery(SCHEMA, Collections.emptyMap());
+    /**
+     * Write a list of rows with one statement. The rows are split into chunks of {@code neo4j.batch.chunk-size}
+     * and every chunk runs as {@code UNWIND $rows AS row <statement>} in its own write transaction, so a bulk
+     * load needs one round trip and one commit per chunk instead of one per row.
+     * Chunks that committed before a failure stay committed; the result then also holds the error.
+     *
+     * @param statement       The Cypher statement executed once per row, referring to the row as {@code row}.
+     * @param rows            The rows to write.
+     * @param requestedTarget The target named by the call, or null for the default.
+     * @param requested       The database named by the call, or null for the default.
+     * @return A list containing a single map with the counters of all committed chunks.
+     */
+    public List<Map<String, Object>> executeBatch(String statement, List<Map<String, Object>> rows, String requestedTarget, String requested) {
+        Target target = targets.target(requestedTarget, false);
+        String database = databaseNow(target, requested);
+        String query = batchQuery(statement);
+        logger.info("Executing batch of {} rows", rows.size());
+        logger.debug("Batch query: {}", query);
+        Map<String, Object> total = batchCounters();
+        try (Session session = target.driver().session(sessions.sessionConfig(target.name(), ToolClient.current(), database, AccessMode.WRITE, null));
+             ToolCallSessions.Tracked ignored = ToolCallSessions.track(session)) {
+            for (List<Map<String, Object>> chunk : chunks(rows)) {
+                ResultSummary summary = run(session, AccessMode.WRITE, new Query(query, Map.of("rows", chunk)), defaultTransactionConfig, Result::consume);
+                addChunk(target, database, total, summary, chunk.size());
+            }
+        } catch (Neo4jException e) {
+            logger.error("Database error executing batch after {} rows: {}\nQuery: {}", total.get("rowsCommitted"), e.getMessage(), query, e);
+            queryMetrics.databaseError(e);
+            total.put("error", e.getMessage());
+        } finally {
+            invalidateResults(target, database, query);
+        }
+        logger.debug("Batch write affected: {}", total);
+        return List.of(total);
+    }
+
+    /**
+     * Reactive counterpart of {@link #executeBatch(String, List, String, String)}. Chunks run one after another on a single session.
+     *
+     * @param statement       The Cypher statement executed once per row, referring to the row as {@code row}.
+     * @param rows            The rows to write.
+     * @param requestedTarget The target named by the call, or null for the default.
+     * @param requested       The database named by the call, or null for the default.
+     * @return A Mono emitting a list containing a single map with the counters of all committed chunks.
+     */
+    public Mono<List<Map<String, Object>>> executeBatchReactive(String statement, List<Map<String, Object>> rows, String requestedTarget,
+                                                                String requested) {
+        String query = batchQuery(statement);
+        logger.info("Executing batch of {} rows", rows.size());
+        logger.debug("Batch query: {}", query);
+        return Mono.deferContextual(context -> {
+            Target target = targets.target(requestedTarget, false);
+            return Mono.fromFuture(() -> database(target, requested)).flatMap(database -> {
+                Map<String, Object> total = batchCounters();
+                SessionConfig sessionConfig = sessions.sessionConfig(target.name(), ToolClient.current(context), database, AccessMode.WRITE, null);
+                return Flux.usingWhen(
+                                Mono.fromSupplier(() -> target.driver().session(ReactiveSession.class, sessionConfig)),
+                                session -> Flux.fromIterable(chunks(rows)).concatMap(chunk ->
+                                        run(session, AccessMode.WRITE, new Query(query, Map.of("rows", chunk)), defaultTransactionConfig, ReactiveResult::consume)
+                                                .doOnNext(summary -> addChunk(target, database, total, summary, chunk.size()))),
+                                ReactiveSession::close)
+                        .transform(work -> invalidatingResults(work, target, database, query))
+                        .then(Mono.fromSupplier(() -> List.of(total)))
+                        .onErrorResume(Neo4jException.class, e -> {
+                            logger.error("Database error executing batch after {} rows: {}\nQuery: {}", total.get("rowsCommitted"), e.getMessage(), query, e);
+                            queryMetrics.databaseError(e);
+                            total.put("error", e.getMessage());
+                            return Mono.just(List.of(total));
+                        });
+            });
+        });
+    }
+
+    /**
+     * Execute several statements in order within one transaction and return one result per statement:
+     * {@code {statement, records}} for reads and {@code {statement, counters}} for writes.
+     * Every statement is sent before the first result is awaited, so the async driver pipelines them over
+     * one connection instead of waiting a round trip per statement. The transaction runs as a read when
+     * all statements are reads.
+     * With {@code concurrentReads} and only read statements, each statement instead runs in its own
+     * transaction on a separate session and the statements execute in parallel.
+     * Records of each statement are cut off at the {@link ResultBudget}, which marks the entry as truncated.
+     *
+     * @param statements      The statements in execution order.
+     * @param concurrentReads Whether independent read statements may run concurrently.
+     * @param timeout         The timeout of the transaction, or null for {@code neo4j.query.timeout}.
+     * @param target          The target named by the call, or null for the default.
+     * @param database        The database named by the call, or null for the default.
+     * @return A future completing with one result map per statement, in statement order.
+     */
+    public CompletableFuture<List<Map<String, Object>>> executeTransactionAsync(List<CypherStatement> statements, boolean concurrentReads,
+                                                                                Duration timeout, String target, String database) {
+        return executeTransactionAsync(statements, concurrentReads, timeout, target, database, ToolClient.current());
+    }
+
+    private CompletableFuture<List<Map<String, Object>>> executeTransactionAsync(List<CypherStatement> statements, boolean concurrentReads,
+                                                                                 Duration timeout, String requestedTarget, String requested,
+                                                                                 String client) {
+        if (statements == null || statements.isEmpty()) {
+            throw new IllegalArgumentException("statements must contain at least one statement");
+        }
+        List<Query> queries = new ArrayList<>(statements.size());
+        for (CypherStatement statement : statements) {
+            Parameterized prepared = prepare(statement.query(), statement.params());
+            if (classifier.requiresAutoCommit(prepared.query())) {
+                throw new IllegalArgumentException("Statements using CALL { ... } IN TRANSACTIONS cannot run in a multi-statement transaction");
+            }
+            queries.add(new Query(prepared.query(), prepared.params()));
+        }
+        boolean readOnly = queries.stream().allMatch(query -> isReadOnlyQuery(query.text()));
+        logger.info("Executing {} statements in {}", queries.size(), concurrentReads && readOnly ? "parallel" : "one transaction");
+        TransactionConfig config = transactionConfig(timeout);
+        Target target = targets.target(requestedTarget, readOnly);
+        return database(target, requested).thenCompose(database -> transaction(queries, concurrentReads && readOnly, readOnly, config, target, database, client)
+                .whenComplete((results, error) -> queries.forEach(query -> invalidateResults(target, database, query.text()))));
+    }
+
+    private CompletableFuture<List<Map<String, Object>>> transaction(List<Query> queries, boolean parallel, boolean readOnly,
+                                                                     TransactionConfig config, Target target, String database, String client) {
+        if (parallel) {
+            List<CompletableFuture<Map<String, Object>>> results = new ArrayList<>(queries.size());
+            for (int i = 0; i < queries.size(); i++) {
+                int index = i;
+                results.add(withAsyncSession(target, sessions.sessionConfig(target.name(), client, database, AccessMode.READ, null),
+                        session -> session.executeReadAsync(tx -> statementResult(tx, target, database, statementEntry(index), queries.get(index)), config)));
+            }
+            return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                    .thenApply(ignored -> results.stream().map(CompletableFuture::join).toList());
+        }
+        AsyncTransactionCallback<CompletionStage<List<Map<String, Object>>>> work = tx -> {
+            List<CompletableFuture<Map<String, Object>>> results = new ArrayList<>(queries.size());
+            for (int i = 0; i < queries.size(); i++) {
+                results.add(statementResult(tx, target, database, statementEntry(i), queries.get(i)).toCompletableFuture());
+            }
+            return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                    .thenApply(ignored -> results.stream().map(CompletableFuture::join).toList());
+        };
+        return withAsyncSession(target, sessions.sessionConfig(target.name(), client, database, readOnly ? AccessMode.READ : AccessMode.WRITE, null),
+                session -> readOnly ? session.executeReadAsync(work, config) : session.executeWriteAsync(work, config));
+    }
+
+    private static Map<String, Object> statementEntry(int index) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("statement", index);
+        return entry;
+    }
+
+    /**
+     * Run one query and add its records or write counters to a result entry.
+     */
+    private CompletionStage<Map<String, Object>> statementResult(AsyncQueryRunner tx, Target target, String database, Map<String, Object> entry,
+                                                                 Query query) {
+        if (isWriteQuery(query.text())) {
+            return tx.runAsync(query)
+                    .thenCompose(ResultCursor::consumeAsync)
+                    .thenApply(summary -> {
+                        invalidateSchemaOnChange(target, database, summary.counters());
+                        entry.put("counters", countersToMap(summary.counters()));
+                        return entry;
+                    });
+        }
+        ResultBudget.Tracker tracker = resultBudget.tracker();
+        List<Record> records = new ArrayList<>();
+        return tx.runAsync(query)
+                .thenCompose(cursor -> {
+                    CompletableFuture<Void> read = new CompletableFuture<>();
+                    readWithin(cursor, tracker, records, read);
+                    // Discards the records beyond the budget instead of pulling them
+                    return read.thenCompose(ignored -> cursor.consumeAsync());
+                })
+                .thenApply(summary -> {
+                    entry.put("records", RecordJsonWriter.records(records));
+                    if (tracker.isExhausted()) {
+                        entry.put("truncated", true);
+                    }
+                    return entry;
+                });
+    }
+
+    /**
+     * Take records from a cursor until it ends or the budget is used up, then complete without asking for more.
+     */
+    private static void readWithin(ResultCursor cursor, ResultBudget.Tracker tracker, List<Record> records, CompletableFuture<Void> read) {
+        CompletableFuture<Record> next;
+        // Records the driver already fetched complete at once; take them in a loop rather than one nested callback each
+        while ((next = cursor.nextAsync().toCompletableFuture()).isDone() && !next.isCompletedExceptionally()) {
+            if (!keep(next.join(), tracker, records)) {
+                read.complete(null);
+                return;
+            }
+        }
+        next.whenComplete((record, error) -> {
+            if (error != null) {
+                read.completeExceptionally(error);
+            } else if (keep(record, tracker, records)) {
+                readWithin(cursor, tracker, records, read);
+            } else {
+                read.complete(null);
+            }
+        });
+    }
+
+    private static boolean keep(Record record, ResultBudget.Tracker tracker, List<Record> records) {
+        if (record == null || !tracker.tryAdd(record)) {
+            return false;
+        }
+        records.add(record);
+        return true;
+    }
+
+    /**
+     * Open an async session on a target, run the work and close the session whether or not the work succeeded.
+     */
+    private <T> CompletableFuture<T> withAsyncSession(Target target, SessionConfig sessionConfig, Function<AsyncSession, CompletionStage<T>> work) {
+        AsyncSession session = target.driver().session(AsyncSession.class, sessionConfig);
+        return work.apply(session)
+                .handle((result, error) -> session.closeAsync().thenCompose(ignored -> error == null
+                        ? CompletableFuture.completedFuture(result)
+                        : CompletableFuture.<T>failedFuture(error)))
+                .thenCompose(Function.identity())
+                .toCompletableFuture();
+    }
+
+    private static String batchQuery(String statement) {
+        return "UNWIND $rows AS row " + statement.strip();
+    }
+
+    private List<List<Map<String, Object>>> chunks(List<Map<String, Object>> rows) {
+        int chunkSize = Math.max(1, batchChunkSize);
+        List<List<Map<String, Object>>> chunks = new ArrayList<>((rows.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            chunks.add(rows.subList(from, Math.min(rows.size(), from + chunkSize)));
+        }
+        return chunks;
+    }
+
+    private Map<String, Object> batchCounters() {
+        Map<String, Object> total = new LinkedHashMap<>();
+        total.put("chunksCommitted", 0);
+        total.put("rowsCommitted", 0);
+        return total;
+    }
+
+    /**
+     * Add the counters of a committed chunk to the totals of a batch. Numeric counters are summed,
+     * flags are set once any chunk set them.
+     */
+    private void addChunk(Target target, String database, Map<String, Object> total, ResultSummary summary, int rows) {
+        invalidateSchemaOnChange(target, database, summary.counters());
+        total.merge("chunksCommitted", 1, (a, b) -> (Integer) a + (Integer) b);
+        total.merge("rowsCommitted", rows, (a, b) -> (Integer) a + (Integer) b);
+        countersToMap(summary.counters()).forEach((name, value) -> total.merge(name, value, (a, b) ->
+                a instanceof Integer count ? (Object) (count + (Integer) b) : (Object) ((Boolean) a || (Boolean) b)));
+    }
+
+    /**
+     * Reactive counterpart of {@link #executeQuery(String, Map)} built on the driver's {@link ReactiveSession}.
+     * Records are pulled on demand, so no thread is held while the database is working, and the session
+     * is closed when the returned Mono terminates or is cancelled.
+     *
+     * @param query  The Cypher query string.
+     * @param params Optional parameters for the query.
+     * @return A Mono emitting the query results or write counters.
+     */
+    public Mono<RawJson> executeQueryReactive(String query, Map<String, Object> params) {
+        return executeQueryReactive(query, params, 0, QueryOptions.DEFAULT);
+    }
+
+    private Mono<RawJson> executeQueryReactive(String query, Map<String, Object> params, long offset, QueryOptions options) {
+        return Mono.defer(() -> {
+            Target target = targets.target(options.target(), isReadOnlyQuery(query));
+            return queryReactive(target, query, params, offset, options)
+                    .onErrorMap(PoolExhaustedException::isAcquisitionTimeout, e -> poolExhausted(target, e))
+                    .onErrorMap(QueryTimeoutException::isTransactionTimeout, e -> timedOut(options.timeout(), e))
+                    .onErrorMap(Neo4jService::isDatabaseNotFound, this::databaseNotFound)
+                    .onErrorMap(Neo4jException.class, e -> {
+                        logger.error("Database error executing query: {}\nQuery: {}", e.getMessage(), query, e);
+                        queryMetrics.databaseError(e);
+                        return new QueryFailedException(e);
+                    });
+        });
+    }
+
+    private Mono<RawJson> queryReactive(Target target, String query, Map<String, Object> params, long offset, QueryOptions requestedOptions) {
+        return Mono.deferContextual(context -> Mono.fromFuture(() -> database(target, requestedOptions.database())).flatMap(database -> {
+            QueryOptions options = requestedOptions.withTarget(target.name(), database);
+            Map<String, Object> queryParams = params == null ? Collections.emptyMap() : params;
+            ResultCache.Lookup cached = offset == 0 && isReadOnlyQuery(query)
+                    ? resultCache.lookup(target.name(), database, query, queryParams, options.format())
+                    : null;
+            if (cached != null && cached.page() != null) {
+                logger.debug("Serving read from the result cache");
+                return Mono.just(cached.page());
+            }
+            boolean writeQuery = isWriteQuery(query);
+            return Mono.fromFuture(() -> accessMode(target, database, query, queryParams, options.readTool())).flatMap(accessMode -> {
+                QueryStats.Execution execution = queryStats.start(database, query);
+                logger.info("Executing query {}", execution.id());
+                logger.debug("Query {}: {}", execution.id(), query);
+                Query pagedQuery = pagedQuery(query, queryParams, offset);
+                return Flux.usingWhen(
+                                Mono.fromSupplier(() -> target.driver().session(ReactiveSession.class, sessions.sessionConfig(target.name(),
+                                        ToolClient.current(context), database, accessMode, writeQuery ? null : fetchSize(query, queryParams, options)))),
+                                session -> run(session, accessMode, pagedQuery, transactionConfig(options), result -> writeQuery
+                                        ? Mono.from(result.consume()).doOnNext(execution::summary).map(summary -> writeSummary(target, database, summary))
+                                        : readPage(result, query, queryParams, offset, options, execution, cached, ToolClient.current(context))),
+                                ReactiveSession::close)
+                        .transform(work -> invalidatingResults(work, target, database, query))
+                        .singleOrEmpty()
+                        .doFinally(signal -> finish(target, execution, queryParams));
+            });
+        }));
+    }
+
+    private RawJson writeSummary(Target target, String database, ResultSummary summary) {
+        Map<String, Object> counterMap = countersToMap(summary.counters());
+        invalidateSchemaOnChange(target, database, summary.counters());
+        logger.debug("Write query affected: {}", counterMap);
+        return RecordJsonWriter.serialize(List.of(counterMap));
+    }
+
+    private CompletableFuture<List<Map<String, Object>>> schema(Target target, String database) {
+        if (!catalogSchema) {
+            return apocSchema(target, database);
+        }
+        return catalogSchemaReaders.computeIfAbsent(target.name(), name -> new CatalogSchemaReader(target.driver(), sessions, name, defaultTransactionConfig, schemaSampleSize))
+                .read(database);
+    }
+
+    /**
+     * Run the apoc.meta.data() based schema query. Schema rows are few and small, so they are kept as maps.
+     */
+    private CompletableFuture<List<Map<String, Object>>> apocSchema(Target target, String database) {
+        return Flux.usingWhen(
+                        Mono.fromSupplier(() -> target.driver().session(ReactiveSession.class, sessions.sessionConfig(target.name(), database, AccessMode.READ))),
+                        session -> run(session, AccessMode.READ, new Query(SCHEMA), defaultTransactionConfig, result -> Flux.from(result.records()).map(MapAccessor::asMap)),
+                        ReactiveSession::close)
+                .collectList()
+                .toFuture();
     }
 
-    @Tool(name = "read-neo4j-cypher", description = "Execute a Cypher query on the neo4j database")
-    public List<Map<String, Object>> neo4jRead(@ToolParam(description = "Cypher read query to execute") String query) {
-        if (isWriteQuery(query)) {
-            throw new IllegalArgumentException("Only MATCH queries are allowed for read-query");
+    /**
+     * Reactive variant of {@link #run(Session, AccessMode, Query, TransactionConfig, Function)}.
+     */
+    private <T> Flux<T> run(ReactiveSession session, AccessMode accessMode, Query query, TransactionConfig config,
+                            Function<ReactiveResult, Publisher<T>> handler) {
+        if (classifier.requiresAutoCommit(query.text())) {
+            return Mono.from(session.run(query, config)).flatMapMany(handler);
         }
-        return executeQuery(query, Collections.emptyMap());
+        ReactiveTransactionCallback<Publisher<T>> work = tx -> Mono.from(tx.run(query)).flatMapMany(handler);
+        return Flux.from(accessMode == AccessMode.READ ? session.executeRead(work, config) : session.executeWrite(work, config));
+    }
+
+    private Mono<RawJson> readPage(ReactiveResult result, String query, Map<String, Object> params, long offset, QueryOptions options,
+                                   QueryStats.Execution execution, ResultCache.Lookup cached, String client) {
+        return Mono.using(() -> RecordJsonWriter.open(options.format(), result.keys()), writer -> {
+            ResultBudget.Tracker tracker = resultBudget.tracker();
+            return Flux.from(result.records())
+                    .takeWhile(tracker::tryAdd)
+                    .doOnNext(writer::write)
+                    .then(Mono.from(result.consume()))
+                    .map(summary -> {
+                        logger.debug("Read query returned {} rows", tracker.rows());
+                        if (tracker.isExhausted()) {
+                            writer.writeContinuation(continuation(client, query, params, offset, tracker.rows(), options));
+                        }
+                        RawJson page = writer.finish();
+                        fetchSizeAdvisor.observe(query, tracker.rows(), page.json().length());
+                        queryMetrics.result(options.database(), tracker.rows(), page.json().length());
+                        execution.rows(tracker.rows());
+                        execution.summary(summary);
+                        if (!tracker.isExhausted()) {
+                            resultCache.put(cached, page);
+                        }
+                        return page;
+                    });
+        }, RecordJsonWriter::close);
+    }
+
+    /**
+     * Execute a read query and deliver its records in batches of {@code neo4j.read.batch-size}.
+     * The session fetch size matches the batch size unless the call asks for another one, and records are
+     * only requested from the driver when the subscriber asks for more. The MCP SDK still collects every batch into one
+     * tool result before replying, so the whole result is held in memory; only the row list is not built in one piece.
+     * A result truncated by the {@link ResultBudget} ends with a batch holding the continuation token.
+     * Batches leave as soon as they are complete, so the query runs in auto-commit mode where a retry
+     * cannot repeat batches that were already delivered.
+     *
+     * @param query  The Cypher query string.
+     * @param params Optional parameters for the query.
+     * @return A Flux of JSON arrays, one per batch; a single empty array if the query returned no rows.
+     */
+    public Flux<RawJson> streamQueryReactive(String query, Map<String, Object> params) {
+        return streamQueryReactive(query, params, 0, QueryOptions.DEFAULT);
+    }
+
+    private Flux<RawJson> streamQueryReactive(String query, Map<String, Object> params, long offset, QueryOptions requestedOptions) {
+        Map<String, Object> queryParams = params == null ? Collections.emptyMap() : params;
+        Query pagedQuery = pagedQuery(query, queryParams, offset);
+        return Flux.deferContextual(context -> {
+            Target target = targets.target(requestedOptions.target(), isReadOnlyQuery(query));
+            return Mono.fromFuture(() -> database(target, requestedOptions.database()))
+                    .flatMapMany(database -> Mono.fromFuture(() -> accessMode(target, database, query, queryParams, requestedOptions.readTool())).flatMapMany(accessMode -> {
+                        QueryOptions options = requestedOptions.withTarget(target.name(), database);
+                        int fetchSize = options.fetchSize() != null && options.fetchSize() > 0 ? options.fetchSize() : readBatchSize;
+                        SessionConfig sessionConfig = sessions.sessionConfig(target.name(), ToolClient.current(context), database, accessMode, (long) fetchSize);
+                        ResultBudget.Tracker tracker = resultBudget.tracker();
+                        AtomicLong streamedBytes = new AtomicLong();
+                        QueryStats.Execution execution = queryStats.start(database, query);
+                        logger.info("Streaming query {}", execution.id());
+                        logger.debug("Query {}: {}", execution.id(), query);
+                        return Flux.usingWhen(
+                                        Mono.fromSupplier(() -> target.driver().session(ReactiveSession.class, sessionConfig)),
+                                        session -> Mono.from(session.run(pagedQuery, transactionConfig(options)))
+                                                .flatMapMany(result -> Flux.from(result.records())
+                                                        .limitRate(fetchSize)
+                                                        .takeWhile(tracker::tryAdd)
+                                                        .buffer(readBatchSize)
+                                                        .map(batch -> RecordJsonWriter.records(options.format(), result.keys(), batch))
+                                                        .doOnNext(batch -> streamedBytes.addAndGet(batch.json().length()))
+                                                        .concatWith(Mono.from(result.consume()).doOnNext(execution::summary).then(Mono.empty()))),
+                                        ReactiveSession::close)
+                                .concatWith(Mono.fromSupplier(() -> {
+                                    logger.debug("Read query streamed {} rows", tracker.rows());
+                                    queryMetrics.result(database, tracker.rows(), streamedBytes.get());
+                                    execution.rows(tracker.rows());
+                                    return tracker.isExhausted();
+                                }).filter(Boolean::booleanValue).map(ignored ->
+                                        RecordJsonWriter.continuation(options.format(), continuation(ToolClient.current(context), query, queryParams, offset, tracker.rows(), options))))
+                                .transform(work -> invalidatingResults(work, target, database, query))
+                                .doFinally(signal -> finish(target, execution, queryParams));
+                    }))
+                    .onErrorMap(PoolExhaustedException::isAcquisitionTimeout, e -> poolExhausted(target, e));
+        })
+                .onErrorMap(QueryTimeoutException::isTransactionTimeout, e -> timedOut(requestedOptions.timeout(), e))
+                .onErrorMap(Neo4jService::isDatabaseNotFound, this::databaseNotFound)
+                .onErrorMap(Neo4jException.class, e -> {
+                    logger.error("Database error executing query: {}\nQuery: {}", e.getMessage(), query, e);
+                    queryMetrics.databaseError(e);
+                    return new QueryFailedException(e);
+                })
+                .defaultIfEmpty(RecordJsonWriter.records(requestedOptions.format(), List.of(), List.of()));
+    }
+
+    /**
+     * Decide which cluster members may run a query. Statically classified queries are routed directly;
+     * for procedure calls and LOAD CSV the planner is asked through {@code EXPLAIN}, which does not execute
+     * the query, and its verdict is cached per query text. If the plan cannot be obtained the query goes
+     * to the leader, which can run anything. Calls through a read tool go through {@link #readOnly} instead.
+     *
+     * @param target   The target the query runs on.
+     * @param database The database the query runs against.
+     * @param query    The Cypher query string.
+     * @param params   The query parameters.
+     * @param readTool The read tool the call came through, or null if the call may write.
+     * @return A future completing with the access mode for the query.
+     */
+    private CompletableFuture<AccessMode> accessMode(Target target, String database, String query, Map<String, Object> params, String readTool) {
+        if (readTool != null) {
+            return readOnly(readTool, target, database, query, params);
+        }
+        return switch (classifier.classify(query)) {
+            case READ -> CompletableFuture.completedFuture(AccessMode.READ);
+            case WRITE -> CompletableFuture.completedFuture(AccessMode.WRITE);
+            case UNKNOWN -> explainedAccessMode(target, database, query, params).exceptionally(e -> {
+                logger.warn("Could not explain query, routing it as a write: {}", e.getMessage());
+                return AccessMode.WRITE;
+            });
+        };
+    }
+
+    /**
+     * The check every read tool runs before its query. A query passes if the classifier finds it read-only, or if
+     * it calls procedures or loads CSV and the planner reports it as {@link QueryType#READ_ONLY}. Queries the
+     * planner reports as writing, and queries it cannot plan, are rejected, since procedures such as
+     * {@code apoc.cypher.doIt} may write whatever their arguments say.
+     *
+     * @param tool     The read tool the call came through.
+     * @param target   The target the query runs on.
+     * @param database The database the query runs against.
+     * @param query    The Cypher query string.
+     * @param params   The query parameters.
+     * @return A future completing with {@link AccessMode#READ}, or failing with an {@link IllegalArgumentException}
+     * if the query may write.
+     */
+    private CompletableFuture<AccessMode> readOnly(String tool, Target target, String database, String query, Map<String, Object> params) {
+        return switch (classifier.classify(query)) {
+            case READ -> CompletableFuture.completedFuture(AccessMode.READ);
+            case WRITE -> CompletableFuture.failedFuture(readRejected(tool, "Only MATCH queries are allowed for read-query"));
+            case UNKNOWN -> explainedAccessMode(target, database, query, params).handle((accessMode, e) -> {
+                if (e != null) {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    throw readRejected(tool, "Could not verify that the query only reads: " + cause.getMessage());
+                }
+                if (accessMode != AccessMode.READ) {
+                    throw readRejected(tool, "Only read queries are allowed for read-query, the planner reports this query as writing");
+                }
+                return accessMode;
+            });
+        };
+    }
+
+    private IllegalArgumentException readRejected(String tool, String message) {
+        queryMetrics.classifierRejection(tool);
+        return new IllegalArgumentException(message);
+    }
+
+    /**
+     * Ask the planner whether a query writes, caching the verdict per query text. Failures are not cached.
+     */
+    private CompletableFuture<AccessMode> explainedAccessMode(Target target, String database, String query, Map<String, Object> params) {
+        return explainedAccessModes.get(query, (key, executor) -> withAsyncSession(target, sessions.sessionConfig(target.name(), database, AccessMode.READ),
+                session -> session.runAsync("EXPLAIN " + key, params).thenCompose(ResultCursor::consumeAsync))
+                .thenApply(summary -> summary.queryType() == QueryType.READ_ONLY ? AccessMode.READ : AccessMode.WRITE));
+    }
+
+    /**
+     * Rethrow a pool acquisition timeout as a {@link PoolExhaustedException}, a transaction timeout as a
+     * {@link QueryTimeoutException} and an unknown database as an {@link IllegalArgumentException}, each with
+     * its own hint for the caller. Other database errors are rethrown as a {@link QueryFailedException}.
+     *
+     * @param target  The target the call ran on.
+     * @param e       The database error.
+     * @param timeout The timeout requested by the call, or null if it used the default.
+     */
+    private void failOnLimits(Target target, Neo4jException e, Duration timeout) {
+        if (PoolExhaustedException.isAcquisitionTimeout(e)) {
+            throw poolExhausted(target, e);
+        }
+        if (QueryTimeoutException.isTransactionTimeout(e)) {
+            throw timedOut(timeout, e);
+        }
+        if (isDatabaseNotFound(e)) {
+            throw databaseNotFound(e);
+        }
+    }
+
+    private static boolean isDatabaseNotFound(Throwable e) {
+        return e instanceof Neo4jException neo4jException && "Neo.ClientError.Database.DatabaseNotFound".equals(neo4jException.code());
+    }
+
+    private IllegalArgumentException databaseNotFound(Throwable e) {
+        queryMetrics.databaseError(e);
+        return new IllegalArgumentException("Database does not exist: " + e.getMessage(), e);
+    }
+
+    /**
+     * Add an execution to the query statistics and log it if it was slow. Unless the query was profiled or an
+     * earlier slow execution of the same fingerprint already brought a plan, the plan is fetched with
+     * {@code EXPLAIN} in the background, which does not run the query again.
+     *
+     * @param target    The target the query ran on.
+     * @param execution The execution.
+     * @param params    The query parameters, needed to plan the query.
+     */
+    private void finish(Target target, QueryStats.Execution execution, Map<String, Object> params) {
+        if (!execution.finish()) {
+            return;
+        }
+        String plan = execution.plan();
+        if (plan != null) {
+            queryStats.logSlow(execution, plan);
+            return;
+        }
+        AsyncSession session = target.driver().session(AsyncSession.class, sessions.sessionConfig(target.name(), execution.database(), AccessMode.READ));
+        session.runAsync("EXPLAIN " + execution.query(), params)
+                .thenCompose(ResultCursor::consumeAsync)
+                .handle((summary, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        queryStats.logSlowWithoutPlan(execution, cause.getMessage());
+                    } else if (summary.hasPlan()) {
+                        queryStats.logSlow(execution, QueryStats.planSummary(summary.plan()));
+                    } else {
+                        queryStats.logSlowWithoutPlan(execution, "the server returned no plan");
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> session.closeAsync());
+    }
+
+    private QueryTimeoutException timedOut(Duration timeout, Throwable e) {
+        logger.warn("Query terminated by transaction timeout: {}", e.getMessage());
+        queryMetrics.databaseError(e);
+        return new QueryTimeoutException(timeout != null ? timeout : queryTimeout, e);
+    }
+
+    private TransactionConfig transactionConfig(QueryOptions options) {
+        return transactionConfig(options.timeout());
+    }
+
+    /**
+     * @param timeout The timeout requested by the call, or null for {@code neo4j.query.timeout}.
+     * @return The transaction config carrying the timeout.
+     */
+    private TransactionConfig transactionConfig(Duration timeout) {
+        return timeout == null ? defaultTransactionConfig : TransactionConfig.builder().withTimeout(timeout).build();
+    }
+
+    private PoolExhaustedException poolExhausted(Target target, Throwable e) {
+        logger.warn("Connection pool of target {} exhausted: {}", target.name(), e.getMessage());
+        queryMetrics.databaseError(e);
+        return new PoolExhaustedException(target.maxConnectionPoolSize(), target.connectionAcquisitionTimeout(), e);
+    }
+
+    private Long fetchSize(String query, Map<String, Object> params, QueryOptions options) {
+        return fetchSizeAdvisor.fetchSize(query, params, options.fetchSize());
+    }
+
+    /**
+     * Build the query for one page of a result. The first page runs the query unchanged, later pages
+     * add SKIP and LIMIT to its final RETURN and let the database skip the records that were already returned.
+     *
+     * @param query  The original Cypher query.
+     * @param params The original query parameters.
+     * @param offset The number of records already returned.
+     * @return The query to run.
+     * @throws IllegalArgumentException if a later page is asked for a query that cannot be paged.
+     */
+    private Query pagedQuery(String query, Map<String, Object> params, long offset) {
+        if (offset == 0) {
+            return new Query(query, params);
+        }
+        String paged = CypherPaging.page(query, resultBudget.maxRows() > 0);
+        if (paged == null) {
+            throw new IllegalArgumentException("The query has no final RETURN to page: " + query);
+        }
+        Map<String, Object> pageParams = new HashMap<>(params);
+        pageParams.put(CypherPaging.SKIP_PARAMETER, offset);
+        if (resultBudget.maxRows() > 0) {
+            // One record more than the budget tells the tracker whether another page follows
+            pageParams.put(CypherPaging.LIMIT_PARAMETER, resultBudget.maxRows() + 1);
+        }
+        return new Query(paged, pageParams);
+    }
+
+    /**
+     * Describe where a truncated result stops and how to fetch the rest. Queries without a final RETURN,
+     * such as a standalone procedure call, get no continuation token; the entry says so instead.
+     *
+     * @param client  The client the result is read for, the only one that can fetch the rest.
+     * @param query   The original Cypher query.
+     * @param params  The original query parameters.
+     * @param offset  The number of records returned by earlier pages.
+     * @param rows    The number of records returned by this page.
+     * @param options The per-call settings of the result, kept for the following pages.
+     * @return The map appended as the last entry of a truncated result.
+     */
+    private Map<String, Object> continuation(String client, String query, Map<String, Object> params, long offset, int rows, QueryOptions options) {
+        Map<String, Object> continuation = new LinkedHashMap<>();
+        continuation.put("truncated", true);
+        continuation.put("rowsReturned", rows);
+        if (CypherPaging.page(query, false) == null) {
+            continuation.put("message", "The rest of this result cannot be fetched page by page; narrow the query or "
+                    + "end it with a RETURN and use SKIP and LIMIT");
+        } else {
+            continuation.put("continuationToken", continuationStore.save(client, query, params, offset + rows, options));
+        }
+        return continuation;
+    }
+
+    /**
+     * Drop the cached schema of a database when a write added or removed labels, indexes or constraints.
+     *
+     * @param target   The target the write ran on.
+     * @param database The database the write ran against.
+     * @param counters The counters reported by the result summary.
+     */
+    private void invalidateSchemaOnChange(Target target, String database, SummaryCounters counters) {
+        if (counters.labelsAdded() > 0 || counters.labelsRemoved() > 0
+                || counters.indexesAdded() > 0 || counters.indexesRemoved() > 0
+                || counters.constraintsAdded() > 0 || counters.constraintsRemoved() > 0) {
+            logger.debug("Schema changed, invalidating cached schema of database {} on target {}", database, target.name());
+            schemaCache.synchronous().invalidate(new SchemaKey(target.name(), database));
+        }
+    }
+
+    /**
+     * Drop the cached read results a query may have changed, unless it is known to only read. Called once the query
+     * has finished, so that a read starting afterwards sees its effects.
+     *
+     * @param target   The target the query ran on.
+     * @param database The database the query ran against.
+     * @param query    The Cypher query.
+     */
+    private void invalidateResults(Target target, String database, String query) {
+        if (!isReadOnlyQuery(query)) {
+            resultCache.invalidate(target.name(), database, query);
+        }
+    }
+
+    /**
+     * Reactive variant of {@link #invalidateResults(Target, String, String)}. The entries are dropped before the
+     * work's completion or error reaches the caller, which may otherwise read again before they are gone.
+     */
+    private <T> Flux<T> invalidatingResults(Flux<T> work, Target target, String database, String query) {
+        if (isReadOnlyQuery(query)) {
+            return work;
+        }
+        Runnable invalidate = () -> resultCache.invalidate(target.name(), database, query);
+        return work.doOnTerminate(invalidate).doOnCancel(invalidate);
+    }
+
+    /**
+     * Convert the summary counters of a write query into a map.
+     *
+     * @param counters The counters reported by the result summary.
+     * @return A map of counter names to values.
+     */
+    private Map<String, Object> countersToMap(SummaryCounters counters) {
+        Map<String, Object> counterMap = new HashMap<>();
+        counterMap.put("nodesCreated", counters.nodesCreated());
+        counterMap.put("nodesDeleted", counters.nodesDeleted());
+        counterMap.put("relationshipsCreated", counters.relationshipsCreated());
+        counterMap.put("relationshipsDeleted", counters.relationshipsDeleted());
+        counterMap.put("propertiesSet", counters.propertiesSet());
+        counterMap.put("labelsAdded", counters.labelsAdded());
+        counterMap.put("labelsRemoved", counters.labelsRemoved());
+        counterMap.put("indexesAdded", counters.indexesAdded());
+        counterMap.put("indexesRemoved", counters.indexesRemoved());
+        counterMap.put("constraintsAdded", counters.constraintsAdded());
+        counterMap.put("constraintsRemoved", counters.constraintsRemoved());
+        counterMap.put("systemUpdates", counters.systemUpdates());
+        counterMap.put("containsSystemUpdates", counters.containsSystemUpdates());
+        counterMap.put("containsUpdates", counters.containsUpdates());
+        return counterMap;
+    }
+
+    /**
+     * Apply auto-parameterization to a tool query when it is enabled.
+     *
+     * @param query  The Cypher query string.
+     * @param params The parameters passed with the query, may be null.
+     * @return The query and parameters to execute.
+     */
+    private Parameterized prepare(String query, Map<String, Object> params) {
+        Map<String, Object> queryParams = params == null ? Collections.emptyMap() : params;
+        if (!autoParameterize) {
+            return new Parameterized(query, queryParams);
+        }
+        Parameterized parameterized = CypherParameterizer.parameterize(query, queryParams);
+        logger.debug("Parameterized query: {}", parameterized.query());
+        return parameterized;
+    }
+
+    /**
+     * Run the same read query on several targets in parallel and collect one entry per target, in target order:
+     * {@code {target, records}}, with {@code truncated} when the records of that target were cut off at the
+     * {@link ResultBudget}, or {@code {target, error}} when the target is unhealthy or the query failed there.
+     * A failing target does not fail the others. Each target runs the query on its own, without failover, so that
+     * no data is read twice through a replica that is also one of the targets.
+     *
+     * @param query     The Cypher read query.
+     * @param params    Optional parameters for the query.
+     * @param names     The targets to read from, or null or empty for all targets.
+     * @param timeout   The timeout of each target's transaction, or null for {@code neo4j.query.timeout}.
+     * @param requested The database named by the call, or null for the default.
+     * @return A future completing with one result map per target.
+     */
+    public CompletableFuture<List<Map<String, Object>>> executeFanOutAsync(String query, Map<String, Object> params, List<String> names,
+                                                                           Duration timeout, String requested) {
+        return executeFanOutAsync(query, params, names, timeout, requested, ToolClient.current());
+    }
+
+    private CompletableFuture<List<Map<String, Object>>> executeFanOutAsync(String query, Map<String, Object> params, List<String> names,
+                                                                            Duration timeout, String requested, String client) {
+        List<Target> selected = targets.targets(names);
+        String name = databases.name(requested);
+        Parameterized prepared = prepare(query, params);
+        Query preparedQuery = new Query(prepared.query(), prepared.params());
+        TransactionConfig config = transactionConfig(timeout);
+        logger.info("Executing query on {} targets", selected.size());
+        logger.debug("Fan-out query: {}", prepared.query());
+        List<CompletableFuture<Map<String, Object>>> results = new ArrayList<>(selected.size());
+        for (Target target : selected) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("target", target.name());
+            if (!target.healthy()) {
+                entry.put("error", "Target " + target.name() + " is unavailable");
+                results.add(CompletableFuture.completedFuture(entry));
+                continue;
+            }
+            results.add(resolved(target, name)
+                    .thenCompose(database -> readOnly("read-neo4j-cypher-fanout", target, database, prepared.query(), prepared.params())
+                            .thenCompose(ignored -> withAsyncSession(target, sessions.sessionConfig(target.name(), client, database, AccessMode.READ, null),
+                                    session -> session.executeReadAsync(tx -> statementResult(tx, target, database, entry, preparedQuery), config))))
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        if (cause instanceof IllegalArgumentException rejected) {
+                            // A query that may write fails the whole call rather than a single target
+                            throw rejected;
+                        }
+                        logger.error("Database error executing query on target {}: {}", target.name(), cause.getMessage(), cause);
+                        queryMetrics.databaseError(cause);
+                        Map<String, Object> failed = new LinkedHashMap<>();
+                        failed.put("target", target.name());
+                        failed.put("error", cause.getMessage());
+                        return failed;
+                    }));
+        }
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> results.stream().map(CompletableFuture::join).toList());
+    }
+
+    @Tool(name = "get-neo4j-schema", description = "List all node types, their attributes and their relationships TO other node-types in the neo4j database")
+    public List<Map<String, Object>> neo4jSchema(
+            @ToolParam(description = TARGET_DESCRIPTION, required = false) String target,
+            @ToolParam(description = "Database to run against; leave unset for the server's default database", required = false) String database) {
+        Target resolved = targets.target(target, true);
+        try {
+            return schemaCache.get(new SchemaKey(resolved.name(), databaseNow(resolved, database))).join();
+        } catch (CompletionException e) {
+            if (!(e.getCause() instanceof Neo4jException cause)) {
+                throw e;
+            }
+            failOnLimits(resolved, cause, null);
+            logger.error("Database error loading schema: {}", cause.getMessage(), cause);
+            queryMetrics.databaseError(cause);
+            throw new QueryFailedException(cause);
+        }
+    }
+
+    @Tool(name = "get-neo4j-query-stats", description = "List the most expensive queries run through this server, grouped by "
+            + "fingerprint (the query with literals replaced by ?), with execution count, total, mean, p95 and max time in ms, "
+            + "rows and, for profiled queries, database hits")
+    public List<Map<String, Object>> neo4jQueryStats(
+            @ToolParam(description = "Number of fingerprints to return, default 10", required = false) Integer limit,
+            @ToolParam(description = "Sort order: totalTime (default), p95, count, rows or dbHits", required = false) String orderBy,
+            @ToolParam(description = "Only queries run against this database; leave unset for all databases", required = false) String database) {
+        return queryStats.top(limit, orderBy, database);
+    }
+
+    @Tool(name = "read-neo4j-cypher", description = "Execute a Cypher query on the neo4j database. Large results are truncated; "
+            + "the last entry then holds a continuationToken for read-neo4j-cypher-continue. Use ORDER BY for stable pages. "
+            + "Queries that do not end with a RETURN, such as a standalone CALL or SHOW, cannot be continued")
+    public RawJson neo4jRead(
+            @ToolParam(description = "Cypher read query to execute") String query,
+            @ToolParam(description = "Query parameters referenced as $name in the query", required = false) Map<String, Object> params,
+            @ToolParam(description = "Result format: objects (default) for one object per row, columnar for {columns, rows} with rows as "
+                    + "value arrays, or dictionary for columnar with repeated strings replaced by indexes into per-column dictionaries",
+                    required = false) String format,
+            @ToolParam(description = "Number of records pulled from the database per round trip; leave unset for the server's choice. "
+                    + "Small values suit queries that return few rows, large values suit big exports", required = false) Integer fetchSize,
+            @ToolParam(description = "Transaction timeout in seconds after which the database terminates the query; "
+                    + "leave unset for the configured default", required = false) Integer timeoutSeconds,
+            @ToolParam(description = TARGET_DESCRIPTION, required = false) String target,
+            @ToolParam(description = "Database to run against; leave unset for the server's default database", required = false) String database) {
+        Parameterized prepared = prepare(query, params);
+        QueryOptions options = QueryOptions.of(ResultFormat.parse(format), fetchSize, QueryOptions.timeout(timeoutSeconds), database, target)
+                .readBy("read-neo4j-cypher");
+        return executeQuery(prepared.query(), prepared.params(), options);
+    }
+
+    @Tool(name = "read-neo4j-cypher-fanout", description = "Execute the same Cypher read query on several Neo4j targets in parallel, "
+            + "e.g. regional clusters, and return one entry per target with its records, or its error if the query failed there")
+    public List<Map<String, Object>> neo4jReadFanOut(
+            @ToolParam(description = "Cypher read query to execute") String query,
+            @ToolParam(description = "Query parameters referenced as $name in the query", required = false) Map<String, Object> params,
+            @ToolParam(description = "Names of the targets to read from; leave unset for all targets", required = false) List<String> targets,
+            @ToolParam(description = "Transaction timeout in seconds after which the database terminates the query; "
+                    + "leave unset for the configured default", required = false) Integer timeoutSeconds,
+            @ToolParam(description = "Database to run against; leave unset for the server's default database", required = false) String database) {
+        return await(executeFanOutAsync(query, params, targets, QueryOptions.timeout(timeoutSeconds), database));
+    }
+
+    @Tool(name = "read-neo4j-cypher-continue", description = "Fetch the next page of a truncated read-neo4j-cypher result")
+    public RawJson neo4jReadContinue(@ToolParam(description = "continuationToken from the last entry of a truncated result") String continuationToken) {
+        ContinuationStore.Continuation continuation = continuationStore.get(ToolClient.current(), continuationToken);
+        return executeQuery(continuation.query(), continuation.params(), continuation.offset(), continuation.options().readBy("read-neo4j-cypher-continue"));
     }
 
     @Tool(name = "write-neo4j-cypher", description = "Execute a write Cypher query on the neo4j database")
-    public List<Map<String, Object>> neo4jWrite(@ToolParam(description = "Cypher write query to execute") String query) {
-        if (!isWriteQuery(query)) {
+    public RawJson neo4jWrite(
+            @ToolParam(description = "Cypher write query to execute") String query,
+            @ToolParam(description = "Query parameters referenced as $name in the query", required = false) Map<String, Object> params,
+            @ToolParam(description = "Transaction timeout in seconds after which the database terminates the query; "
+                    + "leave unset for the configured default", required = false) Integer timeoutSeconds,
+            @ToolParam(description = TARGET_DESCRIPTION, required = false) String target,
+            @ToolParam(description = "Database to run against; leave unset for the server's default database", required = false) String database) {
+        if (isReadOnlyQuery(query)) {
+            queryMetrics.classifierRejection("write-neo4j-cypher");
+            throw new IllegalArgumentException("Only write queries are allowed for write-query");
+        }
+        Parameterized prepared = prepare(query, params);
+        return executeQuery(prepared.query(), prepared.params(), QueryOptions.of(ResultFormat.OBJECTS, null, QueryOptions.timeout(timeoutSeconds), database, target));
+    }
+
+    @Tool(name = "write-neo4j-cypher-batch", description = "Execute one write Cypher statement for every row of a list. "
+            + "The statement runs as UNWIND $rows AS row <statement> in chunks, one transaction per chunk; refer to the current row as row, e.g. CREATE (:Person {name: row.name})")
+    public List<Map<String, Object>> neo4jWriteBatch(
+            @ToolParam(description = "Cypher write statement executed once per row, referring to the row as row") String statement,
+            @ToolParam(description = "List of row objects") List<Map<String, Object>> rows,
+            @ToolParam(description = TARGET_DESCRIPTION, required = false) String target,
+            @ToolParam(description = "Database to run against; leave unset for the server's default database", required = false) String database) {
+        validateBatch(statement, rows);
+        return executeBatch(statement, rows, target, database);
+    }
+
+    private void validateBatch(String statement, List<Map<String, Object>> rows) {
+        if (rows == null || rows.isEmpty()) {
+            throw new IllegalArgumentException("rows must contain at least one row");
+        }
+        if (isReadOnlyQuery(batchQuery(statement))) {
+            queryMetrics.classifierRejection("write-neo4j-cypher-batch");
             throw new IllegalArgumentException("Only write queries are allowed for write-query");
         }
-        return executeQuery(query, Collections.emptyMap());
     }
 
-}
\ No newline at end of file
+    @Tool(name = "run-neo4j-cypher-transaction", description = "Execute several Cypher statements in order in one transaction, "
+            + "either all of them commit or none. Returns one entry per statement with its records or write counters. "
+            + "Set concurrentReads to run read-only statements in parallel, each in its own transaction")
+    public List<Map<String, Object>> neo4jTransaction(
+            @ToolParam(description = "Statements to execute in order") CypherStatement[] statements,
+            @ToolParam(description = "Run the statements in parallel when all of them only read", required = false) Boolean concurrentReads,
+            @ToolParam(description = "Transaction timeout in seconds after which the database terminates the query; "
+                    + "leave unset for the configured default", required = false) Integer timeoutSeconds,
+            @ToolParam(description = TARGET_DESCRIPTION, required = false) String target,
+            @ToolParam(description = "Database to run against; leave unset for the server's default database", required = false) String database) {
+        Duration timeout = QueryOptions.timeout(timeoutSeconds);
+        try {
+            return executeTransactionAsync(statements == null ? null : List.of(statements), Boolean.TRUE.equals(concurrentReads), timeout, target, database).join();
+        } catch (CompletionException e) {
+            if (!(e.getCause() instanceof Neo4jException cause)) {
+                throw e;
+            }
+            failOnLimits(targets.named(target), cause, timeout);
+            logger.error("Database error executing transaction: {}", cause.getMessage(), cause);
+            queryMetrics.databaseError(cause);
+            throw new QueryFailedException(cause);
+        }
+    }
+
+    public Mono<List<Map<String, Object>>> neo4jQueryStatsReactive(Integer limit, String orderBy, String database) {
+        return Mono.fromSupplier(() -> queryStats.top(limit, orderBy, database));
+    }
+
+    public Mono<List<Map<String, Object>>> neo4jSchemaReactive(String target, String database) {
+        return Mono.defer(() -> {
+            Target resolved = targets.target(target, true);
+            // The cached future is shared, so a cancelled caller must not cancel the load for everyone else
+            return Mono.fromFuture(() -> database(resolved, database))
+                    .flatMap(name -> Mono.fromFuture(() -> schemaCache.get(new SchemaKey(resolved.name(), name)), true))
+                    .onErrorMap(PoolExhaustedException::isAcquisitionTimeout, e -> poolExhausted(resolved, e));
+        })
+                .onErrorMap(QueryTimeoutException::isTransactionTimeout, e -> timedOut(null, e))
+                .onErrorMap(Neo4jService::isDatabaseNotFound, this::databaseNotFound)
+                .onErrorMap(Neo4jException.class, e -> {
+                    logger.error("Database error loading schema: {}", e.getMessage(), e);
+                    queryMetrics.databaseError(e);
+                    return new QueryFailedException(e);
+                });
+    }
+
+    public Mono<RawJson> neo4jReadReactive(String query, Map<String, Object> params, String format, Integer fetchSize, Integer timeoutSeconds,
+                                           String target, String database) {
+        return Mono.fromSupplier(() -> QueryOptions.of(ResultFormat.parse(format), fetchSize, QueryOptions.timeout(timeoutSeconds), database, target)
+                .readBy("read-neo4j-cypher")).flatMap(options -> {
+            Parameterized prepared = prepare(query, params);
+            return executeQueryReactive(prepared.query(), prepared.params(), 0, options);
+        });
+    }
+
+    public Flux<RawJson> neo4jReadStream(String query, Map<String, Object> params, String format, Integer fetchSize, Integer timeoutSeconds,
+                                         String target, String database) {
+        return Mono.fromSupplier(() -> QueryOptions.of(ResultFormat.parse(format), fetchSize, QueryOptions.timeout(timeoutSeconds), database, target)
+                .readBy("read-neo4j-cypher")).flatMapMany(options -> {
+            Parameterized prepared = prepare(query, params);
+            return streamQueryReactive(prepared.query(), prepared.params(), 0, options);
+        });
+    }
+
+    public Mono<List<Map<String, Object>>> neo4jReadFanOutReactive(String query, Map<String, Object> params, List<String> targets,
+                                                                   Integer timeoutSeconds, String database) {
+        return Mono.deferContextual(context -> Mono.fromFuture(executeFanOutAsync(query, params, targets, QueryOptions.timeout(timeoutSeconds), database,
+                ToolClient.current(context))));
+    }
+
+    public Mono<RawJson> neo4jReadContinueReactive(String continuationToken) {
+        return Mono.deferContextual(context -> Mono.fromSupplier(() -> continuationStore.get(ToolClient.current(context), continuationToken)))
+                .flatMap(continuation -> executeQueryReactive(continuation.query(), continuation.params(), continuation.offset(),
+                        continuation.options().readBy("read-neo4j-cypher-continue")));
+    }
+
+    public Flux<RawJson> neo4jReadContinueStream(String continuationToken) {
+        return Mono.deferContextual(context -> Mono.fromSupplier(() -> continuationStore.get(ToolClient.current(context), continuationToken)))
+                .flatMapMany(continuation -> streamQueryReactive(continuation.query(), continuation.params(), continuation.offset(),
+                        continuation.options().readBy("read-neo4j-cypher-continue")));
+    }
+
+    public Mono<RawJson> neo4jWriteReactive(String query, Map<String, Object> params, Integer timeoutSeconds, String target, String database) {
+        if (isReadOnlyQuery(query)) {
+            queryMetrics.classifierRejection("write-neo4j-cypher");
+            return Mono.error(new IllegalArgumentException("Only write queries are allowed for write-query"));
+        }
+        Parameterized prepared = prepare(query, params);
+        return executeQueryReactive(prepared.query(), prepared.params(), 0, QueryOptions.of(ResultFormat.OBJECTS, null, QueryOptions.timeout(timeoutSeconds), database, target));
+    }
+
+    public Mono<List<Map<String, Object>>> neo4jTransactionReactive(List<CypherStatement> statements, boolean concurrentReads, Integer timeoutSeconds,
+                                                                    String target, String database) {
+        Duration timeout = QueryOptions.timeout(timeoutSeconds);
+        return Mono.deferContextual(context -> Mono.fromFuture(executeTransactionAsync(statements, concurrentReads, timeout, target, database, ToolClient.current(context))))
+                .onErrorMap(PoolExhaustedException::isAcquisitionTimeout, e -> poolExhausted(targets.named(target), e))
+                .onErrorMap(QueryTimeoutException::isTransactionTimeout, e -> timedOut(timeout, e))
+                .onErrorMap(Neo4jService::isDatabaseNotFound, this::databaseNotFound)
+                .onErrorMap(Neo4jException.class, e -> {
+                    logger.error("Database error executing transaction: {}", e.getMessage(), e);
+                    queryMetrics.databaseError(e);
+                    return new QueryFailedException(e);
+                });
+    }
+
+    public Mono<List<Map<String, Object>>> neo4jWriteBatchReactive(String statement, List<Map<String, Object>> rows, String target, String database) {
+        return Mono.fromRunnable(() -> validateBatch(statement, rows))
+                .then(Mono.defer(() -> executeBatchReactive(statement, rows, target, database)));
+    }
+
+}
@@ -0,0 +1,277 @@
+package mcp.neo4j.server.service;
+
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.exceptions.Neo4jException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 23:00
+ * @description The Neo4j clusters or DBMSs the tools can run against, each with a driver and connection pools of
+ * its own. The target {@value #DEFAULT} is the one configured by {@code neo4j.uri}; further targets are listed in
+ * {@code neo4j.targets.names} and configured under {@code neo4j.targets.<name>.*}. A target may name other targets
+ * holding a replica of its data in {@code failover}; reads sent to it go to the first healthy one of them while the
+ * target itself fails its health check. Writes always go to the named target, as a replica does not pass them on.
+ */
+@Component
+public class Neo4jTargets implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(Neo4jTargets.class);
+
+    public static final String DEFAULT = "default";
+
+    private final Map<String, Target> targets = new LinkedHashMap<>();
+    private final Disposable healthChecks;
+
+    /**
+     * @param uri                 Connection URI of the default target
+     * @param username            Username of the default target and default username of the other targets
+     * @param password            Password of the default target and default password of the other targets
+     * @param names               Names of the further targets
+     * @param healthCheckInterval How often the connectivity of every target is verified, 0 to never check
+     * @param driverSettings      Driver configuration shared by all targets, apart from their pool settings
+     * @param queryMetrics        Registers the connection pool gauges of each target
+     * @param environment         Source of the {@code neo4j.targets.<name>.*} settings
+     */
+    public Neo4jTargets(
+            @Value("${neo4j.uri}") String uri,
+            @Value("${neo4j.username}") String username,
+            @Value("${neo4j.password}") String password,
+            @Value("${neo4j.targets.names:}") List<String> names,
+            @Value("${neo4j.targets.health-check-interval:10s}") Duration healthCheckInterval,
+            DriverSettings driverSettings,
+            QueryMetrics queryMetrics,
+            Environment environment) {
+        try {
+            add(DEFAULT, uri, username, password, driverSettings, queryMetrics, environment);
+            Target defaultTarget = targets.get(DEFAULT);
+            try {
+                defaultTarget.driver().verifyConnectivity();
+                logger.info("Successfully connected to Neo4j at {}", uri);
+            } catch (Exception e) {
+                logger.error("Failed to verify connectivity to Neo4j: {}", e.getMessage());
+                throw new Neo4jException("Neo4j connectivity failed", e);
+            }
+            for (String name : names) {
+                String targetName = name.strip();
+                if (targetName.isEmpty() || targets.containsKey(targetName)) {
+                    continue;
+                }
+                String targetUri = environment.getProperty("neo4j.targets." + targetName + ".uri");
+                if (targetUri == null || targetUri.isBlank()) {
+                    throw new IllegalArgumentException("neo4j.targets." + targetName + ".uri is not set");
+                }
+                add(targetName, targetUri,
+                        environment.getProperty("neo4j.targets." + targetName + ".username", username),
+                        environment.getProperty("neo4j.targets." + targetName + ".password", password),
+                        driverSettings, queryMetrics, environment);
+                // Other targets may be down at startup; they are used once their health check succeeds
+                check(targets.get(targetName)).block();
+            }
+            for (Target target : targets.values()) {
+                for (String replica : target.failover()) {
+                    if (!targets.containsKey(replica) || replica.equals(target.name())) {
+                        throw new IllegalArgumentException("Failover target '" + replica + "' of target '" + target.name() + "' is not one of " + targets.keySet());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            closeDrivers();
+            throw e;
+        }
+        this.healthChecks = healthCheckInterval == null || healthCheckInterval.isZero()
+                ? null
+                : Flux.interval(healthCheckInterval, healthCheckInterval)
+                        .onBackpressureDrop()
+                        .concatMap(tick -> Flux.fromIterable(targets.values()).flatMap(this::check))
+                        .subscribe();
+    }
+
+    private void add(String name, String uri, String username, String password, DriverSettings driverSettings,
+                     QueryMetrics queryMetrics, Environment environment) {
+        String prefix = "neo4j.targets." + name + ".";
+        int maxConnectionPoolSize = environment.getProperty(prefix + "max-connection-pool-size", Integer.class, driverSettings.maxConnectionPoolSize());
+        Duration acquisitionTimeout = environment.getProperty(prefix + "connection-acquisition-timeout", Duration.class, driverSettings.connectionAcquisitionTimeout());
+        List<String> failover = List.of(environment.getProperty(prefix + "failover", String[].class, new String[0])).stream()
+                .map(String::strip)
+                .filter(replica -> !replica.isEmpty())
+                .toList();
+        logger.debug("Initializing target {} at {}", name, uri);
+        Driver driver = GraphDatabase.driver(uri, AuthTokens.basic(username, password), driverSettings.toConfig(maxConnectionPoolSize, acquisitionTimeout));
+        targets.put(name, new Target(name, username, driver, maxConnectionPoolSize, acquisitionTimeout, failover));
+        if (driverSettings.metrics()) {
+            queryMetrics.bindConnectionPools(name, driver);
+        }
+    }
+
+    private Mono<Void> check(Target target) {
+        return Mono.fromCompletionStage(() -> target.driver().verifyConnectivityAsync())
+                .doOnSuccess(ignored -> {
+                    if (!target.healthy) {
+                        target.healthy = true;
+                        logger.info("Target {} is available", target.name());
+                    }
+                })
+                .onErrorResume(e -> {
+                    if (target.healthy) {
+                        target.healthy = false;
+                        logger.warn("Target {} is unavailable: {}", target.name(), e.getMessage());
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * @param requested The target named by a tool call, or null for the default target.
+     * @return The target.
+     * @throws IllegalArgumentException if there is no such target.
+     */
+    public Target named(String requested) {
+        String name = requested == null || requested.isBlank() ? DEFAULT : requested.strip();
+        Target target = targets.get(name);
+        if (target == null) {
+            throw new IllegalArgumentException("Unknown target '" + name + "', use one of " + targets.keySet());
+        }
+        return target;
+    }
+
+    /**
+     * Choose the target that runs a call. A read sent to an unhealthy target goes to its first healthy failover
+     * target; when none is healthy, or the call may write, it is sent to the named target regardless.
+     *
+     * @param requested The target named by a tool call, or null for the default target.
+     * @param readOnly  Whether the call only reads.
+     * @return The target to run the call on.
+     * @throws IllegalArgumentException if there is no such target.
+     */
+    public Target target(String requested, boolean readOnly) {
+        Target target = named(requested);
+        if (target.healthy || !readOnly) {
+            return target;
+        }
+        for (String name : target.failover()) {
+            Target replica = targets.get(name);
+            if (replica.healthy) {
+                logger.debug("Target {} is unavailable, reading from {}", target.name(), replica.name());
+                return replica;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * @param requested The targets named by a tool call, or null or empty for all targets.
+     * @return The targets, in configuration order when all are used.
+     * @throws IllegalArgumentException if one of them does not exist.
+     */
+    public List<Target> targets(List<String> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return List.copyOf(targets.values());
+        }
+        List<Target> selected = new ArrayList<>(requested.size());
+        for (String name : requested) {
+            Target target = named(name);
+            if (!selected.contains(target)) {
+                selected.add(target);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * @return All targets, the default target first.
+     */
+    public Collection<Target> all() {
+        return targets.values();
+    }
+
+    /**
+     * Stop the health checks and close the drivers of all targets.
+     */
+    @Override
+    public void close() {
+        if (healthChecks != null) {
+            healthChecks.dispose();
+        }
+        closeDrivers();
+    }
+
+    private void closeDrivers() {
+        for (Target target : targets.values()) {
+            try {
+                target.driver().close();
+                logger.info("Neo4j driver of target {} closed successfully.", target.name());
+            } catch (Exception e) {
+                logger.error("Error closing Neo4j driver of target {}: {}", target.name(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * A Neo4j cluster or DBMS with its driver. Its health reflects the last connectivity check.
+     */
+    public static final class Target {
+
+        private final String name;
+        private final String username;
+        private final Driver driver;
+        private final int maxConnectionPoolSize;
+        private final Duration connectionAcquisitionTimeout;
+        private final List<String> failover;
+        private volatile boolean healthy = true;
+
+        private Target(String name, String username, Driver driver, int maxConnectionPoolSize, Duration connectionAcquisitionTimeout,
+                       List<String> failover) {
+            this.name = name;
+            this.username = username;
+            this.driver = driver;
+            this.maxConnectionPoolSize = maxConnectionPoolSize;
+            this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+            this.failover = failover;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public String username() {
+            return username;
+        }
+
+        public Driver driver() {
+            return driver;
+        }
+
+        public int maxConnectionPoolSize() {
+            return maxConnectionPoolSize;
+        }
+
+        public Duration connectionAcquisitionTimeout() {
+            return connectionAcquisitionTimeout;
+        }
+
+        public List<String> failover() {
+            return failover;
+        }
+
+        public boolean healthy() {
+            return healthy;
+        }
+    }
+}
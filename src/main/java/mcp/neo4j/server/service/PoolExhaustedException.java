@@ -0,0 +1,31 @@
+package mcp.neo4j.server.service;
+
+import org.neo4j.driver.exceptions.ClientException;
+
+import java.time.Duration;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 16:00
+ * @description Thrown when no pooled connection became free within the acquisition timeout, so the caller
+ * learns that the server is saturated rather than that the query failed.
+ */
+public class PoolExhaustedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+    private static final String ACQUISITION_TIMEOUT_MESSAGE = "Unable to acquire connection from the pool";
+
+    public PoolExhaustedException(int maxConnectionPoolSize, Duration acquisitionTimeout, Throwable cause) {
+        super("Neo4j connection pool exhausted: all " + maxConnectionPoolSize + " connections stayed busy for "
+                + acquisitionTimeout.toMillis() + "ms. Retry later or raise neo4j.driver.max-connection-pool-size", cause);
+    }
+
+    /**
+     * @param error A failure reported by the driver.
+     * @return true if the driver gave up waiting for a free pooled connection.
+     */
+    public static boolean isAcquisitionTimeout(Throwable error) {
+        return error instanceof ClientException && error.getMessage() != null
+                && error.getMessage().startsWith(ACQUISITION_TIMEOUT_MESSAGE);
+    }
+}
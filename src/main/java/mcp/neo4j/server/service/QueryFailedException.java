@@ -0,0 +1,19 @@
+package mcp.neo4j.server.service;
+
+import org.neo4j.driver.exceptions.Neo4jException;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 15:20
+ * @description Thrown when the database rejected or failed a query, e.g. for a syntax error or a constraint
+ * violation. It reaches the caller as a tool error carrying the Neo4j status code, so a failed query is not
+ * mistaken for one that matched nothing.
+ */
+public class QueryFailedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public QueryFailedException(Neo4jException cause) {
+        super("Query failed" + (cause.code() == null ? "" : " with " + cause.code()) + ": " + cause.getMessage(), cause);
+    }
+}
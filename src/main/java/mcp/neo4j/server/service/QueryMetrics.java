@@ -0,0 +1,220 @@
+package mcp.neo4j.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.exceptions.Neo4jException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 18:00
+ * @description Micrometer instrumentation of the tool calls and the driver, exported at {@code /actuator/prometheus}.
+ * <ul>
+ *     <li>{@code mcp.tool.calls}: duration per tool and outcome (success, error, rejected, cancelled)</li>
+ *     <li>{@code mcp.tool.rejections}: queries refused by a tool because the classifier put them in the wrong category</li>
+ *     <li>{@code neo4j.query.rows} and {@code neo4j.query.bytes}: records and serialized JSON size per read result and database</li>
+ *     <li>{@code neo4j.errors}: database errors by Neo4j status code</li>
+ *     <li>{@code neo4j.driver.connections.*}: connection pool state per target, summed over its cluster members</li>
+ *     <li>{@code cache.gets}, {@code cache.evictions} and {@code cache.size} with {@code cache=neo4j.results}: use of the read
+ *     result cache, the hit rate being the share of gets with {@code result=hit}</li>
+ *     <li>{@code neo4j.result.cache.invalidations}: writes that dropped cached results, by {@code scope} (labels or all)</li>
+ * </ul>
+ */
+@Component
+public class QueryMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<String, ResultMeters> results = new ConcurrentHashMap<>();
+
+    public QueryMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Time a blocking tool call.
+     *
+     * @param tool The tool name.
+     * @param call The tool call.
+     * @return The result of the call.
+     */
+    public <T> T timeTool(String tool, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } catch (RuntimeException e) {
+            // A blocking call is cancelled by interrupting its thread, whatever the driver then throws
+            outcome = Thread.currentThread().isInterrupted() ? "cancelled" : outcome(e);
+            throw e;
+        } finally {
+            sample.stop(toolTimer(tool, outcome));
+        }
+    }
+
+    /**
+     * Time a reactive tool call from subscription until it terminates or is cancelled.
+     *
+     * @param tool The tool name.
+     * @param call The tool call.
+     * @return The same elements.
+     */
+    public <T> Flux<T> timeTool(String tool, Flux<T> call) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call
+                    .doOnComplete(() -> sample.stop(toolTimer(tool, "success")))
+                    .doOnError(e -> sample.stop(toolTimer(tool, outcome(e))))
+                    .doOnCancel(() -> sample.stop(toolTimer(tool, "cancelled")));
+        });
+    }
+
+    /**
+     * @param tool The tool that refused the query.
+     */
+    public void classifierRejection(String tool) {
+        Counter.builder("mcp.tool.rejections")
+                .description("Queries refused because they read where a write was expected or the other way round")
+                .tag("tool", tool)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * @param database  The database the result was read from.
+     * @param rowCount  The number of records of a read result.
+     * @param byteCount The serialized JSON size of the result.
+     */
+    public void result(String database, int rowCount, long byteCount) {
+        ResultMeters meters = results.computeIfAbsent(database, this::resultMeters);
+        meters.rows().record(rowCount);
+        meters.bytes().record(byteCount);
+    }
+
+    private ResultMeters resultMeters(String database) {
+        return new ResultMeters(
+                DistributionSummary.builder("neo4j.query.rows")
+                        .description("Records returned per read result")
+                        .tag("database", database)
+                        .publishPercentileHistogram()
+                        .register(registry),
+                DistributionSummary.builder("neo4j.query.bytes")
+                        .description("Serialized JSON size per read result")
+                        .tag("database", database)
+                        .baseUnit("bytes")
+                        .publishPercentileHistogram()
+                        .register(registry));
+    }
+
+    /**
+     * @param error A failure reported by the driver.
+     */
+    public void databaseError(Throwable error) {
+        String code = error instanceof Neo4jException neo4jException && neo4jException.code() != null
+                ? neo4jException.code()
+                : "unknown";
+        Counter.builder("neo4j.errors")
+                .description("Database errors by Neo4j status code")
+                .tag("code", code)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Register gauges over the driver's connection pools. The driver must have been built with driver metrics enabled.
+     *
+     * @param target The name of the target the driver connects to.
+     * @param driver The driver.
+     */
+    public void bindConnectionPools(String target, Driver driver) {
+        poolGauge(target, driver, "neo4j.driver.connections.in.use", "Connections lent out to sessions", ConnectionPoolMetrics::inUse);
+        poolGauge(target, driver, "neo4j.driver.connections.idle", "Connections idle in the pool", ConnectionPoolMetrics::idle);
+        poolGauge(target, driver, "neo4j.driver.connections.creating", "Connections being opened", ConnectionPoolMetrics::creating);
+        poolGauge(target, driver, "neo4j.driver.connections.acquiring", "Sessions waiting for a connection", ConnectionPoolMetrics::acquiring);
+        FunctionTimer.builder("neo4j.driver.connections.acquisition", driver,
+                        d -> poolSum(d, ConnectionPoolMetrics::acquired),
+                        d -> poolSum(d, ConnectionPoolMetrics::totalAcquisitionTime),
+                        TimeUnit.MILLISECONDS)
+                .description("Time sessions waited for a pooled connection")
+                .tag("target", target)
+                .register(registry);
+        FunctionCounter.builder("neo4j.driver.connections.acquisition.timeouts", driver,
+                        d -> poolSum(d, ConnectionPoolMetrics::timedOutToAcquire))
+                .description("Connection acquisitions that gave up after the acquisition timeout")
+                .tag("target", target)
+                .register(registry);
+    }
+
+    /**
+     * Register the hit, miss, eviction and size meters of the read result cache. The cache must record statistics.
+     *
+     * @param cache The result cache.
+     */
+    public void bindResultCache(Cache<?, ?> cache) {
+        CaffeineCacheMetrics.monitor(registry, cache, "neo4j.results");
+    }
+
+    /**
+     * @param byLabels true if the write dropped the results sharing a label or type with it, false if it cleared all.
+     */
+    public void resultCacheInvalidation(boolean byLabels) {
+        Counter.builder("neo4j.result.cache.invalidations")
+                .description("Writes that dropped cached read results")
+                .tag("scope", byLabels ? "labels" : "all")
+                .register(registry)
+                .increment();
+    }
+
+    private void poolGauge(String target, Driver driver, String name, String description, ToLongFunction<ConnectionPoolMetrics> value) {
+        Gauge.builder(name, driver, d -> poolSum(d, value))
+                .description(description)
+                .tag("target", target)
+                .register(registry);
+    }
+
+    private static long poolSum(Driver driver, ToLongFunction<ConnectionPoolMetrics> value) {
+        return driver.metrics().connectionPoolMetrics().stream().mapToLong(value).sum();
+    }
+
+    private Timer toolTimer(String tool, String outcome) {
+        return Timer.builder("mcp.tool.calls")
+                .description("Duration of tool calls, including the wait for admission")
+                .tag("tool", tool)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static String outcome(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AdmissionRejectedException) {
+                return "rejected";
+            }
+            if (cause instanceof CancellationException) {
+                return "cancelled";
+            }
+        }
+        return "error";
+    }
+
+    private record ResultMeters(DistributionSummary rows, DistributionSummary bytes) {
+    }
+}
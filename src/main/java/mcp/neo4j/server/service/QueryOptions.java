@@ -0,0 +1,61 @@
+package mcp.neo4j.server.service;
+
+import mcp.neo4j.server.json.ResultFormat;
+
+import java.time.Duration;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 16:30
+ * @description Per-call settings of a query. They are kept with a continuation token so that
+ * every page of a result is fetched and laid out the same way.
+ *
+ * @param format    The layout of the result.
+ * @param fetchSize The number of records pulled per batch, or null to let {@link FetchSizeAdvisor} decide.
+ * @param timeout   The transaction timeout, or null for {@code neo4j.query.timeout}.
+ * @param database  The database named by the call, or null for the default; the resolved name once the query ran.
+ * @param target    The target named by the call, or null for the default; the one that ran the query once it ran.
+ * @param readTool  The read tool the call came through, which only runs queries that are known to only read,
+ *                  or null for calls that may write.
+ */
+public record QueryOptions(ResultFormat format, Integer fetchSize, Duration timeout, String database, String target, String readTool) {
+
+    public static final QueryOptions DEFAULT = new QueryOptions(ResultFormat.OBJECTS, null, null, null, null, null);
+
+    /**
+     * @param format    The layout of the result.
+     * @param fetchSize The number of records pulled per batch, or null to let {@link FetchSizeAdvisor} decide.
+     * @param timeout   The transaction timeout, or null for {@code neo4j.query.timeout}.
+     * @param database  The database named by the call, or null for the default.
+     * @param target    The target named by the call, or null for the default.
+     * @return The settings of a call that may write.
+     */
+    public static QueryOptions of(ResultFormat format, Integer fetchSize, Duration timeout, String database, String target) {
+        return new QueryOptions(format, fetchSize, timeout, database, target, null);
+    }
+
+    /**
+     * @param target   The target the query runs on.
+     * @param database The database the query runs against.
+     * @return These options bound to the target and database, as kept with a continuation token.
+     */
+    public QueryOptions withTarget(String target, String database) {
+        return new QueryOptions(format, fetchSize, timeout, database, target, readTool);
+    }
+
+    /**
+     * @param tool The name of the read tool the call came through.
+     * @return These options for a call that must not write.
+     */
+    public QueryOptions readBy(String tool) {
+        return new QueryOptions(format, fetchSize, timeout, database, target, tool);
+    }
+
+    /**
+     * @param seconds A timeout in seconds as passed with a tool call, may be null.
+     * @return The timeout, or null if none was given.
+     */
+    public static Duration timeout(Integer seconds) {
+        return seconds == null || seconds <= 0 ? null : Duration.ofSeconds(seconds);
+    }
+}
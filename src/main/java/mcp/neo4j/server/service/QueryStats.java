@@ -0,0 +1,319 @@
+package mcp.neo4j.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import mcp.neo4j.server.cypher.CypherFingerprint;
+import org.neo4j.driver.summary.Plan;
+import org.neo4j.driver.summary.ProfiledPlan;
+import org.neo4j.driver.summary.ResultSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 18:30
+ * @description Execution statistics per database and query fingerprint (see {@link CypherFingerprint}): executions, total,
+ * mean, p95 and maximum time, rows and, for profiled executions, database hits. The table holds at most
+ * {@code neo4j.query.stats.max-fingerprints} entries and drops the least used ones first.
+ * Queries slower than {@code neo4j.query.slow-threshold} are written to the {@code mcp.neo4j.server.slow-query}
+ * logger together with a summary of their plan.
+ */
+@Component
+public class QueryStats {
+
+    private static final Logger slowQueryLog = LoggerFactory.getLogger("mcp.neo4j.server.slow-query");
+
+    // Executions per fingerprint the p95 is computed over
+    private static final int LATENCY_SAMPLES = 256;
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private static final Map<String, Comparator<Map<String, Object>>> ORDERS = Map.of(
+            "totaltime", byLong("totalMs"),
+            "p95", byLong("p95Ms"),
+            "count", byLong("count"),
+            "rows", byLong("rows"),
+            "dbhits", byLong("dbHits")
+    );
+
+    private final Cache<Key, Entry> entries;
+    private final long slowThresholdNanos;
+
+    /**
+     * @param maxFingerprints Maximum number of fingerprints whose statistics are kept
+     * @param slowThreshold   Execution time from which a query is logged as slow, 0 to disable the slow-query log
+     */
+    public QueryStats(
+            @Value("${neo4j.query.stats.max-fingerprints:1000}") long maxFingerprints,
+            @Value("${neo4j.query.slow-threshold:1s}") Duration slowThreshold) {
+        this.entries = Caffeine.newBuilder().maximumSize(maxFingerprints).build();
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    /**
+     * Start timing one execution of a query.
+     *
+     * @param database The database the query runs against.
+     * @param query    The Cypher query as sent to the database.
+     * @return The execution, to be completed with {@link Execution#finish()}.
+     */
+    public Execution start(String database, String query) {
+        return new Execution(database, query, CypherFingerprint.normalize(query));
+    }
+
+    /**
+     * @param limit    The number of fingerprints to return, null for 10.
+     * @param orderBy  totalTime (default), p95, count, rows or dbHits.
+     * @param database Only fingerprints run against this database, or null for all.
+     * @return One map per database and fingerprint, most expensive first.
+     */
+    public List<Map<String, Object>> top(Integer limit, String orderBy, String database) {
+        String order = orderBy == null || orderBy.isBlank() ? "totaltime" : orderBy.strip().toLowerCase(Locale.ROOT);
+        Comparator<Map<String, Object>> comparator = ORDERS.get(order);
+        if (comparator == null) {
+            throw new IllegalArgumentException("Unknown order '" + orderBy + "', expected totalTime, p95, count, rows or dbHits");
+        }
+        return entries.asMap().values().stream()
+                .filter(entry -> database == null || database.isBlank() || entry.database.equals(database.strip()))
+                .map(Entry::snapshot)
+                .sorted(comparator.reversed())
+                .limit(limit == null ? DEFAULT_LIMIT : Math.max(0, limit))
+                .toList();
+    }
+
+    /**
+     * Write a slow execution to the slow-query log. Only the fingerprint is logged, so literal values such as
+     * names or identifiers in the query do not end up in the log.
+     *
+     * @param execution The finished execution.
+     * @param plan      A summary of the query plan, kept for later executions of the same fingerprint.
+     */
+    public void logSlow(Execution execution, String plan) {
+        execution.entry.plan = plan;
+        logSlowExecution(execution, plan);
+    }
+
+    /**
+     * Write a slow execution whose plan could not be taken to the slow-query log. Nothing is kept for the
+     * fingerprint, so the next slow execution tries again.
+     *
+     * @param execution The finished execution.
+     * @param reason    Why no plan is available, logged in its place.
+     */
+    public void logSlowWithoutPlan(Execution execution, String reason) {
+        logSlowExecution(execution, "not available, " + reason);
+    }
+
+    private void logSlowExecution(Execution execution, String plan) {
+        slowQueryLog.warn("Slow query {} on {} took {}ms and returned {} rows: {}\nPlan: {}",
+                execution.entry.id, execution.entry.database, execution.nanos / 1_000_000, execution.rows, execution.entry.fingerprint, plan);
+    }
+
+    /**
+     * Render a plan as one line, operators from the result back to the data, e.g.
+     * {@code ProduceResults(estimatedRows=10) <- Filter(estimatedRows=10) <- NodeByLabelScan(estimatedRows=100)}.
+     * Profiled plans show actual rows and database hits instead of the estimate.
+     *
+     * @param plan The plan from an EXPLAIN or PROFILE summary.
+     * @return The plan summary.
+     */
+    public static String planSummary(Plan plan) {
+        StringBuilder summary = new StringBuilder();
+        appendPlan(summary, plan);
+        return summary.toString();
+    }
+
+    private static void appendPlan(StringBuilder summary, Plan plan) {
+        String operator = plan.operatorType();
+        int version = operator.indexOf('@');
+        summary.append(version < 0 ? operator : operator.substring(0, version));
+        if (plan instanceof ProfiledPlan profiled) {
+            summary.append("(rows=").append(profiled.records()).append(", dbHits=").append(profiled.dbHits()).append(')');
+        } else {
+            org.neo4j.driver.Value estimatedRows = plan.arguments().get("EstimatedRows");
+            if (estimatedRows != null && !estimatedRows.isNull()) {
+                summary.append("(estimatedRows=").append(Math.round(estimatedRows.asDouble())).append(')');
+            }
+        }
+        List<? extends Plan> children = plan.children();
+        if (children.size() == 1) {
+            summary.append(" <- ");
+            appendPlan(summary, children.get(0));
+        } else if (!children.isEmpty()) {
+            summary.append(" <- [");
+            for (int i = 0; i < children.size(); i++) {
+                if (i > 0) {
+                    summary.append(", ");
+                }
+                appendPlan(summary, children.get(i));
+            }
+            summary.append(']');
+        }
+    }
+
+    private static long dbHits(ProfiledPlan plan) {
+        long hits = plan.dbHits();
+        for (ProfiledPlan child : plan.children()) {
+            hits += dbHits(child);
+        }
+        return hits;
+    }
+
+    private static Comparator<Map<String, Object>> byLong(String key) {
+        return Comparator.comparingLong(stats -> stats.get(key) instanceof Number number ? number.longValue() : -1);
+    }
+
+    /**
+     * One execution of a query. Rows and the result summary are filled in while the result is read.
+     */
+    public final class Execution {
+
+        private final String database;
+        private final String query;
+        private final Entry entry;
+        private final long startNanos = System.nanoTime();
+        private long nanos = -1;
+        private long rows;
+        private long dbHits = -1;
+        private String plan;
+
+        private Execution(String database, String query, String fingerprint) {
+            this.database = database;
+            this.query = query;
+            this.entry = entries.get(new Key(database, fingerprint), Entry::new);
+        }
+
+        public String database() {
+            return database;
+        }
+
+        public String query() {
+            return query;
+        }
+
+        /**
+         * @return The short identifier of the query's fingerprint, for log lines.
+         */
+        public String id() {
+            return entry.id;
+        }
+
+        public void rows(long rows) {
+            this.rows = rows;
+        }
+
+        /**
+         * Take the database hits and plan from a result summary; they are only present for queries run
+         * with PROFILE or EXPLAIN.
+         *
+         * @param summary The summary of the executed query.
+         */
+        public void summary(ResultSummary summary) {
+            if (summary.hasProfile()) {
+                dbHits = dbHits(summary.profile());
+                plan = planSummary(summary.profile());
+            } else if (summary.hasPlan()) {
+                plan = planSummary(summary.plan());
+            }
+        }
+
+        /**
+         * @return The plan of this execution, or the last plan logged for its fingerprint, or null.
+         */
+        public String plan() {
+            return plan != null ? plan : entry.plan;
+        }
+
+        /**
+         * Add the execution to the statistics of its fingerprint. Later calls have no effect.
+         *
+         * @return true if the execution took at least the slow-query threshold.
+         */
+        public boolean finish() {
+            if (nanos >= 0) {
+                return false;
+            }
+            nanos = System.nanoTime() - startNanos;
+            entry.record(nanos, rows, dbHits);
+            return slowThresholdNanos > 0 && nanos >= slowThresholdNanos;
+        }
+    }
+
+    private record Key(String database, String fingerprint) {
+    }
+
+    private static final class Entry {
+
+        private final String database;
+        private final String fingerprint;
+        private final String id;
+        // Not a monitor, so that a virtual thread recording an execution does not pin its carrier thread
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long[] latencies = new long[LATENCY_SAMPLES];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long rows;
+        private long profiled;
+        private long dbHits;
+        private volatile String plan;
+
+        private Entry(Key key) {
+            this.database = key.database();
+            this.fingerprint = key.fingerprint();
+            this.id = CypherFingerprint.id(fingerprint);
+        }
+
+        private void record(long nanos, long rowCount, long hits) {
+            lock.lock();
+            try {
+                latencies[(int) (count % LATENCY_SAMPLES)] = nanos;
+                count++;
+                totalNanos += nanos;
+                maxNanos = Math.max(maxNanos, nanos);
+                rows += rowCount;
+                if (hits >= 0) {
+                    profiled++;
+                    dbHits += hits;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Map<String, Object> snapshot() {
+            lock.lock();
+            try {
+                long[] recent = Arrays.copyOf(latencies, (int) Math.min(count, LATENCY_SAMPLES));
+                Arrays.sort(recent);
+                Map<String, Object> stats = new LinkedHashMap<>();
+                stats.put("id", id);
+                stats.put("database", database);
+                stats.put("fingerprint", fingerprint);
+                stats.put("count", count);
+                stats.put("totalMs", totalNanos / 1_000_000);
+                stats.put("meanMs", count == 0 ? 0 : totalNanos / count / 1_000_000);
+                stats.put("p95Ms", recent.length == 0 ? 0 : recent[(int) Math.ceil(recent.length * 0.95) - 1] / 1_000_000);
+                stats.put("maxMs", maxNanos / 1_000_000);
+                stats.put("rows", rows);
+                // Database hits are only known for executions run with PROFILE
+                stats.put("dbHits", profiled == 0 ? null : dbHits / profiled);
+                stats.put("plan", plan);
+                return stats;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package mcp.neo4j.server.service;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 18:30
+ * @description Serves the most expensive query fingerprints at {@code /actuator/queries?limit=10&orderBy=totalTime},
+ * optionally of one {@code database}.
+ */
+@Component
+@Endpoint(id = "queries")
+public class QueryStatsEndpoint {
+
+    private final QueryStats queryStats;
+
+    public QueryStatsEndpoint(QueryStats queryStats) {
+        this.queryStats = queryStats;
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> queries(@Nullable Integer limit, @Nullable String orderBy, @Nullable String database) {
+        return queryStats.top(limit, orderBy, database);
+    }
+}
@@ -0,0 +1,32 @@
+package mcp.neo4j.server.service;
+
+import org.neo4j.driver.exceptions.Neo4jException;
+
+import java.time.Duration;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 17:00
+ * @description Thrown when the database terminated a transaction because it ran longer than its timeout.
+ * Like {@link PoolExhaustedException} it reaches the caller as a tool error, so a runaway query is not
+ * mistaken for an empty result.
+ */
+public class QueryTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+    private static final String TIMEOUT_CODE_PREFIX = "Neo.ClientError.Transaction.TransactionTimedOut";
+
+    public QueryTimeoutException(Duration timeout, Throwable cause) {
+        super("Query exceeded its transaction timeout" + (timeout == null ? "" : " of " + timeout.toMillis() + "ms")
+                + " and was terminated. Narrow the query or pass a larger timeoutSeconds", cause);
+    }
+
+    /**
+     * @param error A failure reported by the driver.
+     * @return true if the database terminated the transaction for running past its timeout.
+     */
+    public static boolean isTransactionTimeout(Throwable error) {
+        return error instanceof Neo4jException neo4jException && neo4jException.code() != null
+                && neo4jException.code().startsWith(TIMEOUT_CODE_PREFIX);
+    }
+}
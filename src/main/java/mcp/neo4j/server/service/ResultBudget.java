@@ -0,0 +1,140 @@
+package mcp.neo4j.server.service;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 10:20
+ * @description Row and byte limits applied to the records a single tool call pulls from the driver.
+ */
+@Component
+public class ResultBudget {
+
+    private static final TypeSystem TYPES = TypeSystem.getDefault();
+
+    private final int maxRows;
+    private final long maxBytes;
+
+    /**
+     * @param maxRows  Maximum number of records returned per tool call, 0 for no limit
+     * @param maxBytes Maximum estimated JSON size of the returned records per tool call, 0 for no limit
+     */
+    public ResultBudget(
+            @Value("${neo4j.result.max-rows:10000}") int maxRows,
+            @Value("${neo4j.result.max-bytes:8388608}") long maxBytes) {
+        this.maxRows = maxRows;
+        this.maxBytes = maxBytes;
+    }
+
+    public int maxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Start tracking the records of one result against this budget.
+     *
+     * @return A new tracker; trackers are not thread-safe and belong to a single result.
+     */
+    public Tracker tracker() {
+        return new Tracker();
+    }
+
+    /**
+     * Estimate the JSON size of a record without serializing it.
+     *
+     * @param record The record to measure.
+     * @return The approximate number of bytes the record occupies once serialized.
+     */
+    public static long estimateSize(Record record) {
+        long size = 2;
+        for (int i = 0; i < record.size(); i++) {
+            size += record.keys().get(i).length() + 4 + estimateSize(record.get(i));
+        }
+        return size;
+    }
+
+    private static long estimateSize(org.neo4j.driver.Value value) {
+        if (value.isNull()) {
+            return 4;
+        }
+        if (value.hasType(TYPES.STRING())) {
+            return value.asString().length() + 2;
+        }
+        if (value.hasType(TYPES.BOOLEAN()) || value.hasType(TYPES.INTEGER()) || value.hasType(TYPES.FLOAT())) {
+            return 8;
+        }
+        if (value.hasType(TYPES.LIST())) {
+            long size = 2;
+            for (org.neo4j.driver.Value element : value.values()) {
+                size += estimateSize(element) + 1;
+            }
+            return size;
+        }
+        if (value.hasType(TYPES.MAP()) || value.hasType(TYPES.NODE()) || value.hasType(TYPES.RELATIONSHIP())) {
+            long size = 2;
+            for (String key : value.keys()) {
+                size += key.length() + 4 + estimateSize(value.get(key));
+            }
+            return size;
+        }
+        if (value.hasType(TYPES.PATH())) {
+            long size = 2;
+            for (var node : value.asPath().nodes()) {
+                size += estimateSize(Values.value(node)) + 1;
+            }
+            for (var relationship : value.asPath().relationships()) {
+                size += estimateSize(Values.value(relationship)) + 1;
+            }
+            return size;
+        }
+        return value.toString().length();
+    }
+
+    /**
+     * Tracks the rows and bytes accepted so far for one result.
+     */
+    public final class Tracker {
+
+        private int rows;
+        private long bytes;
+        private boolean exhausted;
+
+        /**
+         * Account for the next record if it still fits into the budget.
+         *
+         * @param record The next record of the result.
+         * @return true if the record fits, false once the budget is exhausted.
+         */
+        public boolean tryAdd(Record record) {
+            if (exhausted) {
+                return false;
+            }
+            long size = maxBytes > 0 ? estimateSize(record) : 0;
+            boolean rowsExceeded = maxRows > 0 && rows >= maxRows;
+            // Always accept the first record so a single oversized row cannot stall paging forever
+            boolean bytesExceeded = maxBytes > 0 && rows > 0 && bytes + size > maxBytes;
+            if (rowsExceeded || bytesExceeded) {
+                exhausted = true;
+                return false;
+            }
+            rows++;
+            bytes += size;
+            return true;
+        }
+
+        /**
+         * @return true if at least one record was left behind because the budget ran out.
+         */
+        public boolean isExhausted() {
+            return exhausted;
+        }
+
+        public int rows() {
+            return rows;
+        }
+    }
+}
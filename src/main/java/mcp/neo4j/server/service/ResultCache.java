@@ -0,0 +1,191 @@
+package mcp.neo4j.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import mcp.neo4j.server.cypher.CypherFingerprint;
+import mcp.neo4j.server.cypher.CypherFootprint;
+import mcp.neo4j.server.json.RawJson;
+import mcp.neo4j.server.json.ResultFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 23:45
+ * @description Optional cache of read results, for agents that run the same reads over and over. An entry is keyed
+ * by target, database, result format, query fingerprint (see {@link CypherFingerprint}) with the literals it
+ * replaced, and parameters, so queries that only differ in whitespace or comments share it. Only complete first
+ * pages of deterministic read queries are cached. Every query through this server that may write drops, once it
+ * finished, the entries of its database that name one of its labels or relationship types or whose
+ * {@link CypherFootprint} is incomplete; a write with an incomplete footprint clears the whole cache. Writes made
+ * outside this server are not seen, so {@code neo4j.result.cache.ttl} bounds how long a result may be stale.
+ */
+@Component
+public class ResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultCache.class);
+
+    private final boolean enabled;
+    private final long maxResultBytes;
+    private final Cache<Key, Entry> results;
+    private final Cache<String, Shape> shapes;
+    private final QueryMetrics queryMetrics;
+    // Puts share the read lock, invalidations take the write lock, so no put slips in between an invalidation's
+    // check and its removal
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Advanced by every invalidation; a read that overlapped a write does not cache what it saw before the write
+    private long generation;
+
+    /**
+     * @param enabled        Whether read results are cached at all
+     * @param maxBytes       Total JSON size of the cached results
+     * @param maxResultBytes JSON size from which a result is not cached
+     * @param ttl            How long a result is served from the cache at most
+     * @param maxQueries     Number of query texts whose fingerprint and footprint are kept
+     * @param queryMetrics   Reports hits, misses, evictions and invalidations
+     */
+    public ResultCache(
+            @Value("${neo4j.result.cache.enabled:false}") boolean enabled,
+            @Value("${neo4j.result.cache.max-bytes:67108864}") long maxBytes,
+            @Value("${neo4j.result.cache.max-result-bytes:1048576}") long maxResultBytes,
+            @Value("${neo4j.result.cache.ttl:30s}") Duration ttl,
+            @Value("${neo4j.result.cache.max-queries:10000}") long maxQueries,
+            QueryMetrics queryMetrics) {
+        this.enabled = enabled;
+        this.maxResultBytes = maxResultBytes;
+        this.queryMetrics = queryMetrics;
+        this.results = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                // Cached pages are at most max-result-bytes long, so the weight cannot overflow
+                .weigher((Key key, Entry entry) -> key.fingerprint().length() + entry.page().json().length())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.shapes = Caffeine.newBuilder().maximumSize(maxQueries).build();
+        if (enabled) {
+            queryMetrics.bindResultCache(results);
+        }
+    }
+
+    /**
+     * Look up the first page of a read query.
+     *
+     * @param target   The target the query runs on.
+     * @param database The database the query runs against.
+     * @param query    The Cypher read query.
+     * @param params   The query parameters.
+     * @param format   The layout of the result.
+     * @return The lookup, holding the cached page on a hit, or null if the result of the query is not cached.
+     */
+    public Lookup lookup(String target, String database, String query, Map<String, Object> params, ResultFormat format) {
+        if (!enabled) {
+            return null;
+        }
+        Shape shape = shapes.get(query, Shape::of);
+        if (!shape.footprint().deterministic()) {
+            return null;
+        }
+        long seen;
+        lock.readLock().lock();
+        try {
+            seen = generation;
+        } finally {
+            lock.readLock().unlock();
+        }
+        Key key = new Key(target, database, format, shape.fingerprint(), shape.literals(), params == null ? Collections.emptyMap() : params);
+        Entry entry = results.getIfPresent(key);
+        return new Lookup(key, shape.footprint(), seen, entry == null ? null : entry.page());
+    }
+
+    /**
+     * Cache the first page of a read query, unless a write finished since the lookup or the page is too large.
+     *
+     * @param lookup The lookup that missed, or null if the result is not cached.
+     * @param page   The complete result.
+     */
+    public void put(Lookup lookup, RawJson page) {
+        if (lookup == null || page.json().length() > maxResultBytes) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            if (generation == lookup.generation()) {
+                results.put(lookup.key(), new Entry(page, lookup.footprint()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drop the entries a query may have changed. Called once a query that is not known to only read has finished,
+     * whether or not it succeeded.
+     *
+     * @param target   The target the query ran on.
+     * @param database The database the query ran against.
+     * @param query    The Cypher query.
+     */
+    public void invalidate(String target, String database, String query) {
+        if (!enabled) {
+            return;
+        }
+        CypherFootprint.Footprint written = shapes.get(query, Shape::of).footprint();
+        lock.writeLock().lock();
+        try {
+            generation++;
+            if (!written.complete()) {
+                results.invalidateAll();
+            } else {
+                results.asMap().entrySet().removeIf(cached -> cached.getKey().target().equals(target)
+                        && cached.getKey().database().equals(database)
+                        && cached.getValue().dependsOn(written));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.debug("Invalidated cached results for labels {}", written.complete() ? written.labels() : "all");
+        queryMetrics.resultCacheInvalidation(written.complete());
+    }
+
+    /**
+     * @param key        The cache key of the result.
+     * @param footprint  The labels and relationship types the query reads.
+     * @param generation The invalidation count seen before the query ran.
+     * @param page       The cached page, or null on a miss.
+     */
+    public record Lookup(Key key, CypherFootprint.Footprint footprint, long generation, RawJson page) {
+    }
+
+    private record Key(String target, String database, ResultFormat format, String fingerprint, List<String> literals,
+                       Map<String, Object> params) {
+    }
+
+    private record Entry(RawJson page, CypherFootprint.Footprint footprint) {
+
+        /**
+         * @param written The footprint of a write.
+         * @return true if the write may have changed this result.
+         */
+        private boolean dependsOn(CypherFootprint.Footprint written) {
+            return !footprint.complete() || !Collections.disjoint(footprint.labels(), written.labels());
+        }
+    }
+
+    /**
+     * What the cache needs to know of a query text, worked out once per text.
+     */
+    private record Shape(String fingerprint, List<String> literals, CypherFootprint.Footprint footprint) {
+
+        private static Shape of(String query) {
+            return new Shape(CypherFingerprint.normalize(query), CypherFingerprint.literals(query), CypherFootprint.scan(query));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package mcp.neo4j.server.service;
+
+import org.neo4j.driver.Session;
+import org.neo4j.driver.internal.InternalSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 16:00
+ * @description The driver sessions a blocking tool call opened, so that the call can be cancelled from another thread.
+ * The driver keeps waiting for a running query when its thread is interrupted, and closing the session only queues
+ * a rollback behind the query; resetting the session makes the database terminate the transaction at once.
+ * The tool layer runs a blocking call inside {@link #run(ToolCallSessions, Supplier)} and calls {@link #cancel()}
+ * when the call is cancelled. Sessions opened through the async API are not tracked; their queries end at the
+ * transaction timeout.
+ */
+public final class ToolCallSessions {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolCallSessions.class);
+
+    private static final ThreadLocal<ToolCallSessions> CURRENT = new ThreadLocal<>();
+
+    private final Set<Session> sessions = new HashSet<>();
+    private boolean cancelled;
+
+    /**
+     * Run a blocking tool call, tracking the sessions it opens.
+     *
+     * @param sessions The sessions of the call.
+     * @param work     The work to run on the calling thread.
+     * @return The result of the work.
+     */
+    public static <T> T run(ToolCallSessions sessions, Supplier<T> work) {
+        ToolCallSessions previous = CURRENT.get();
+        CURRENT.set(sessions);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Track a session opened by the blocking call running on this thread, if any, until the returned registration
+     * is closed. Close it before the session, so that a cancel never resets a session that went back to the pool.
+     *
+     * @param session The session just opened.
+     * @return The registration of the session.
+     */
+    static Tracked track(Session session) {
+        ToolCallSessions call = CURRENT.get();
+        if (call == null) {
+            return () -> {
+            };
+        }
+        synchronized (call) {
+            call.sessions.add(session);
+            if (call.cancelled) {
+                reset(session);
+            }
+        }
+        return () -> {
+            synchronized (call) {
+                call.sessions.remove(session);
+            }
+        };
+    }
+
+    /**
+     * Terminate the transactions of every session the call opened, and of those it still opens. Blocks for a
+     * round trip per session, so it must not run on an event loop.
+     */
+    public synchronized void cancel() {
+        cancelled = true;
+        sessions.forEach(ToolCallSessions::reset);
+    }
+
+    /**
+     * The registration of a tracked session.
+     */
+    interface Tracked extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private static void reset(Session session) {
+        // The public Session API has no way to interrupt a running query from another thread
+        if (session instanceof InternalSession internal) {
+            try {
+                internal.reset();
+            } catch (RuntimeException e) {
+                logger.debug("Could not reset the session of a cancelled tool call: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package mcp.neo4j.server.service;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.function.Supplier;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 21:00
+ * @description The client a tool call is made for, as far as the service layer needs to know it.
+ * Blocking tool callbacks run the call inside {@link #call(String, Supplier)}; reactive tool handlers put the
+ * client into the Reactor context of the call with {@link #context(String)}, since their work may continue on
+ * any thread.
+ */
+public final class ToolClient {
+
+    private static final String CONTEXT_KEY = ToolClient.class.getName();
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ToolClient() {
+    }
+
+    /**
+     * Run blocking work on behalf of a client.
+     *
+     * @param client The client key, e.g. the MCP session id.
+     * @param work   The work to run on the calling thread.
+     * @return The result of the work.
+     */
+    public static <T> T call(String client, Supplier<T> work) {
+        String previous = CURRENT.get();
+        CURRENT.set(client);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return The client of the blocking call running on this thread, or null.
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @param client The client key, e.g. the MCP session id.
+     * @return A Reactor context naming the client, to be written into a reactive tool call.
+     */
+    public static Context context(String client) {
+        return Context.of(CONTEXT_KEY, client);
+    }
+
+    /**
+     * @param context The Reactor context of a reactive tool call.
+     * @return The client written into the context, or null.
+     */
+    public static String current(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+}
@@ -0,0 +1,95 @@
+package mcp.neo4j.server.tool;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import mcp.neo4j.server.service.AdmissionControl;
+import mcp.neo4j.server.service.QueryMetrics;
+import mcp.neo4j.server.service.ToolClient;
+import org.neo4j.driver.AccessMode;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+import java.io.IOException;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 17:30
+ * @description Runs a blocking tool callback only after {@link AdmissionControl} admitted it, timing the call
+ * including the wait for admission. Calls are admitted against the database named by their {@code database}
+ * argument. The call must run as its client's {@link ToolClient}, which admission counts it against and whose
+ * bookmarks its sessions share.
+ */
+class AdmittedToolCallback implements ToolCallback {
+
+    private final ToolCallback delegate;
+    private final AccessMode mode;
+    private final AdmissionControl admission;
+    private final QueryMetrics metrics;
+
+    AdmittedToolCallback(ToolCallback delegate, AccessMode mode, AdmissionControl admission, QueryMetrics metrics) {
+        this.delegate = delegate;
+        this.mode = mode;
+        this.admission = admission;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return call(toolInput, null);
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        return metrics.timeTool(delegate.getToolDefinition().name(), () -> {
+            String client = ToolClient.current();
+            AdmissionControl.Permit permit = admission.acquireBlocking(mode, client != null ? client : McpRequestContext.UNKNOWN_CLIENT, database(toolInput));
+            try {
+                return delegate.call(toolInput, toolContext);
+            } finally {
+                permit.close();
+            }
+        });
+    }
+
+    /**
+     * Read the top-level {@code database} argument without building the whole argument tree, which for a batch
+     * write can hold many rows.
+     *
+     * @param toolInput The JSON arguments of the call.
+     * @return The database named by the call, or null.
+     */
+    static String database(String toolInput) {
+        if (toolInput == null || toolInput.isBlank()) {
+            return null;
+        }
+        try (JsonParser parser = org.springframework.ai.util.json.JsonParser.getObjectMapper().createParser(toolInput)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("database".equals(field) && value == JsonToken.VALUE_STRING) {
+                    return parser.getText();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            // Malformed arguments are reported by the tool itself
+            return null;
+        }
+    }
+}
@@ -1,10 +1,35 @@
 package mcp.neo4j.server.tool;
 
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+import mcp.neo4j.server.service.AdmissionControl;
+import mcp.neo4j.server.service.CypherStatement;
 import mcp.neo4j.server.service.Neo4jService;
-import org.springframework.ai.tool.ToolCallbackProvider;
+import mcp.neo4j.server.service.QueryMetrics;
+import mcp.neo4j.server.service.ToolClient;
+import org.neo4j.driver.AccessMode;
+import org.reactivestreams.Publisher;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
 import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.ai.mcp.McpToolUtils;
+import org.springframework.ai.util.json.JsonParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.Function;
 
 /**
  * @author dsimile
@@ -14,8 +39,159 @@ import org.springframework.stereotype.Service;
 @Service
 public class McpNeo4jTools {
 
+    // Tools that only read; every other tool is admitted as a write
+    private static final Set<String> READ_TOOLS = Set.of("get-neo4j-schema", "get-neo4j-query-stats", "read-neo4j-cypher", "read-neo4j-cypher-continue",
+            "read-neo4j-cypher-fanout");
+
+    /**
+     * Registers the Neo4j tools as blocking callbacks, each admitted through {@link AdmissionControl} before it runs
+     * and timed by {@link QueryMetrics}. Like the MCP server does for synchronous tools, each call runs on a
+     * bounded-elastic worker. Calls can be cancelled through {@link ToolCallCancellation}, which interrupts the worker.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "neo4j.execution-mode", havingValue = "blocking", matchIfMissing = true)
+    public List<McpServerFeatures.AsyncToolRegistration> neo4jTools(Neo4jService neo4jService, AdmissionControl admission,
+                                                                    ToolCallCancellation cancellation, QueryMetrics metrics) {
+        return blockingRegistrations(neo4jService, admission, cancellation, metrics, Schedulers.boundedElastic());
+    }
+
+    /**
+     * Registers the blocking tool callbacks with the async MCP server, each call running on a virtual thread of its
+     * own instead of a bounded-elastic worker. The tools keep the synchronous {@link Neo4jService} code; a call
+     * waiting for the driver parks its virtual thread and frees the carrier, so the number of calls in flight is
+     * not capped by the size of a thread pool. Needs Java 21, see the {@code java21} Maven profile.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "neo4j.execution-mode", havingValue = "virtual-threads")
+    public List<McpServerFeatures.AsyncToolRegistration> neo4jVirtualThreadTools(Neo4jService neo4jService, AdmissionControl admission,
+                                                                                 ToolCallCancellation cancellation, QueryMetrics metrics) {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("neo4j.execution-mode=virtual-threads needs Java 21 or later, running on " + Runtime.version());
+        }
+        return blockingRegistrations(neo4jService, admission, cancellation, metrics, Schedulers.fromExecutor(new VirtualThreadTaskExecutor("mcp-tool-")));
+    }
+
+    /**
+     * Registers the Neo4j tools directly with the async MCP server so that each call stays on the
+     * reactive driver path instead of being wrapped in a blocking callback.
+     * Tool names, descriptions and input schemas are still derived from the {@code @Tool} annotations.
+     * Every element a handler emits becomes one text content chunk of the tool result, so streamed reads return
+     * one chunk per batch of rows. The chunks are collected into a single result, as the MCP SDK replies once per call.
+     * Calls wait for {@link AdmissionControl} without holding a thread and can be cancelled through
+     * {@link ToolCallCancellation}, which ends their database transaction. {@link QueryMetrics} times each call
+     * from its arrival, so the time spent waiting for admission is included.
+     */
     @Bean
-    public ToolCallbackProvider neo4jTools(Neo4jService neo4jService) {
-        return MethodToolCallbackProvider.builder().toolObjects(neo4jService).build();
+    @ConditionalOnProperty(name = "neo4j.execution-mode", havingValue = "reactive")
+    public List<McpServerFeatures.AsyncToolRegistration> neo4jReactiveTools(
+            Neo4jService neo4jService,
+            AdmissionControl admission,
+            ToolCallCancellation cancellation,
+            QueryMetrics metrics,
+            @Value("${neo4j.read.streaming:false}") boolean streamReads) {
+        Map<String, Function<Map<String, Object>, Publisher<?>>> handlers = Map.of(
+                "get-neo4j-schema", args -> neo4jService.neo4jSchemaReactive(target(args), database(args)),
+                "get-neo4j-query-stats", args -> neo4jService.neo4jQueryStatsReactive(limit(args), (String) args.get("orderBy"), database(args)),
+                "read-neo4j-cypher", args -> streamReads
+                        ? neo4jService.neo4jReadStream((String) args.get("query"), params(args), (String) args.get("format"), fetchSize(args), timeoutSeconds(args), target(args), database(args))
+                        : neo4jService.neo4jReadReactive((String) args.get("query"), params(args), (String) args.get("format"), fetchSize(args), timeoutSeconds(args), target(args), database(args)),
+                "read-neo4j-cypher-fanout", args -> neo4jService.neo4jReadFanOutReactive((String) args.get("query"), params(args), targets(args),
+                        timeoutSeconds(args), database(args)),
+                "read-neo4j-cypher-continue", args -> streamReads
+                        ? neo4jService.neo4jReadContinueStream((String) args.get("continuationToken"))
+                        : neo4jService.neo4jReadContinueReactive((String) args.get("continuationToken")),
+                "write-neo4j-cypher", args -> neo4jService.neo4jWriteReactive((String) args.get("query"), params(args), timeoutSeconds(args), target(args), database(args)),
+                "write-neo4j-cypher-batch", args -> neo4jService.neo4jWriteBatchReactive((String) args.get("statement"), rows(args), target(args), database(args)),
+                "run-neo4j-cypher-transaction", args -> neo4jService.neo4jTransactionReactive(
+                        statements(args), Boolean.TRUE.equals(args.get("concurrentReads")), timeoutSeconds(args), target(args), database(args))
+        );
+        ToolCallback[] callbacks = MethodToolCallbackProvider.builder().toolObjects(neo4jService).build().getToolCallbacks();
+        return Arrays.stream(callbacks)
+                .map(ToolCallback::getToolDefinition)
+                .map(definition -> toAsyncToolRegistration(definition, handlers.get(definition.name()), admission, cancellation, metrics))
+                .toList();
+    }
+
+    /**
+     * Wrap the admitted blocking callbacks for the async MCP server. The client of a call is only known while the
+     * server dispatches it, so it is taken then and handed to the worker as the call's {@link ToolClient}.
+     * A cancelled call interrupts its worker; the driver then closes the connection the call is blocked on,
+     * which rolls back its transaction.
+     */
+    private static List<McpServerFeatures.AsyncToolRegistration> blockingRegistrations(Neo4jService neo4jService, AdmissionControl admission,
+                                                                                       ToolCallCancellation cancellation, QueryMetrics metrics,
+                                                                                       Scheduler scheduler) {
+        ToolCallback[] callbacks = MethodToolCallbackProvider.builder().toolObjects(neo4jService).build().getToolCallbacks();
+        return Arrays.stream(callbacks)
+                .<ToolCallback>map(callback -> new AdmittedToolCallback(callback, accessMode(callback.getToolDefinition()), admission, metrics))
+                .map(McpToolUtils::toSyncToolRegistration)
+                .map(registration -> new McpServerFeatures.AsyncToolRegistration(registration.tool(), args -> {
+                    String client = McpRequestContext.client();
+                    return cancellation.cancellable(() -> ToolClient.call(client, () -> registration.call().apply(args)), scheduler)
+                            .onErrorResume(CancellationException.class, e -> Mono.just(new McpSchema.CallToolResult(
+                                    List.of(new McpSchema.TextContent(e.getMessage())), true)));
+                }))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> params(Map<String, Object> args) {
+        return (Map<String, Object>) args.get("params");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> rows(Map<String, Object> args) {
+        return (List<Map<String, Object>>) args.get("rows");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> targets(Map<String, Object> args) {
+        return (List<String>) args.get("targets");
+    }
+
+    private static AccessMode accessMode(ToolDefinition definition) {
+        return READ_TOOLS.contains(definition.name()) ? AccessMode.READ : AccessMode.WRITE;
+    }
+
+    private static String target(Map<String, Object> args) {
+        return (String) args.get("target");
+    }
+
+    private static String database(Map<String, Object> args) {
+        return (String) args.get("database");
+    }
+
+    private static Integer limit(Map<String, Object> args) {
+        return args.get("limit") instanceof Number limit ? limit.intValue() : null;
+    }
+
+    private static Integer fetchSize(Map<String, Object> args) {
+        return args.get("fetchSize") instanceof Number fetchSize ? fetchSize.intValue() : null;
+    }
+
+    private static Integer timeoutSeconds(Map<String, Object> args) {
+        return args.get("timeoutSeconds") instanceof Number timeoutSeconds ? timeoutSeconds.intValue() : null;
+    }
+
+    private static List<CypherStatement> statements(Map<String, Object> args) {
+        Object statements = args.get("statements");
+        return statements == null ? null : List.of((CypherStatement[]) JsonParser.toTypedObject(statements, CypherStatement[].class));
+    }
+
+    private static McpServerFeatures.AsyncToolRegistration toAsyncToolRegistration(
+            ToolDefinition definition, Function<Map<String, Object>, Publisher<?>> handler,
+            AdmissionControl admission, ToolCallCancellation cancellation, QueryMetrics metrics) {
+        McpSchema.Tool tool = new McpSchema.Tool(definition.name(), definition.description(), definition.inputSchema());
+        AccessMode mode = accessMode(definition);
+        return new McpServerFeatures.AsyncToolRegistration(tool, args -> {
+            // The handler may run on whichever thread admits the call, so the client travels in the Reactor context
+            String client = McpRequestContext.client();
+            Flux<?> call = Flux.defer(() -> handler.apply(args)).contextWrite(ToolClient.context(client));
+            return metrics.timeTool(definition.name(), cancellation.cancellable(admission.admit(mode, client, database(args), call)))
+                    .<McpSchema.Content>map(chunk -> new McpSchema.TextContent(JsonParser.toJson(chunk)))
+                    .collectList()
+                    .map(contents -> new McpSchema.CallToolResult(contents, false))
+                    .onErrorResume(e -> Mono.just(new McpSchema.CallToolResult(List.of(new McpSchema.TextContent(e.getMessage())), true)));
+        });
     }
 }
@@ -0,0 +1,63 @@
+package mcp.neo4j.server.tool;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 17:30
+ * @description The MCP request a tool call belongs to. {@link McpRequestFilter} sets it on the dispatching thread
+ * for exactly as long as the MCP server dispatches a {@code tools/call} message, which is when the server calls
+ * the tool handler. Handlers take what they need from it right away; from there on the client travels in the
+ * Reactor context of the call, or as the {@link mcp.neo4j.server.service.ToolClient} of a blocking call.
+ */
+final class McpRequestContext {
+
+    static final String UNKNOWN_CLIENT = "unknown";
+
+    private static final ThreadLocal<Request> CURRENT = new ThreadLocal<>();
+
+    private McpRequestContext() {
+    }
+
+    /**
+     * Dispatch a request on the calling thread.
+     *
+     * @param request  The request being dispatched.
+     * @param dispatch Hands the request to the MCP server, which calls the tool handler before returning.
+     */
+    static void dispatch(Request request, Runnable dispatch) {
+        Request previous = CURRENT.get();
+        CURRENT.set(request);
+        try {
+            dispatch.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return The JSON-RPC id of the request being dispatched, or null outside a tool call.
+     */
+    static String requestId() {
+        Request request = CURRENT.get();
+        return request == null ? null : request.id();
+    }
+
+    /**
+     * @return The client of the request being dispatched, {@link #UNKNOWN_CLIENT} outside a tool call.
+     */
+    static String client() {
+        Request request = CURRENT.get();
+        return request == null ? UNKNOWN_CLIENT : request.client();
+    }
+
+
+    /**
+     * @param id     The JSON-RPC id of the request.
+     * @param client The client that sent it.
+     */
+    record Request(String id, String client) {
+    }
+}
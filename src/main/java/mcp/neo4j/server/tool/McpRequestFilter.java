@@ -0,0 +1,141 @@
+package mcp.neo4j.server.tool;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.modelcontextprotocol.server.transport.WebFluxSseServerTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.util.json.JsonParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 17:00
+ * @description Reads the JSON-RPC messages MCP clients post and the lifecycle of their SSE streams.
+ * While a {@code tools/call} message is dispatched, its request id and client are available through
+ * {@link McpRequestContext} for admission control and cancellation. A {@code notifications/cancelled} message
+ * cancels the tool call with the given request id of the same client. When the last SSE stream of a client closes,
+ * the client is gone, so its running tool calls are cancelled.
+ * The SSE transport shares one MCP session between all streams, so a client is identified by the
+ * {@code sessionId} query parameter when it sends one, and otherwise by its remote address. A client that sends a
+ * {@code sessionId} must send it on its SSE stream as well for its calls to end with the stream.
+ */
+@Component
+public class McpRequestFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(McpRequestFilter.class);
+
+    private final ToolCallCancellation cancellation;
+    private final String messageEndpoint;
+    private final Map<String, Integer> openStreams = new ConcurrentHashMap<>();
+
+    /**
+     * @param cancellation    The registry of running tool calls
+     * @param messageEndpoint Path the MCP clients post their messages to
+     */
+    public McpRequestFilter(
+            ToolCallCancellation cancellation,
+            @Value("${spring.ai.mcp.server.sse-message-endpoint:/mcp/message}") String messageEndpoint) {
+        this.cancellation = cancellation;
+        this.messageEndpoint = messageEndpoint;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().pathWithinApplication().value();
+        if (HttpMethod.GET.equals(request.getMethod()) && WebFluxSseServerTransport.DEFAULT_SSE_ENDPOINT.equals(path)) {
+            String client = client(request);
+            return chain.filter(exchange)
+                    .doFirst(() -> openStreams.merge(client, 1, Integer::sum))
+                    .doFinally(signal -> {
+                        if (openStreams.computeIfPresent(client, (key, streams) -> streams > 1 ? streams - 1 : null) == null) {
+                            cancellation.cancelAll(client, "client disconnected");
+                        }
+                    });
+        }
+        if (HttpMethod.POST.equals(request.getMethod()) && messageEndpoint.equals(path)) {
+            return DataBufferUtils.join(request.getBody())
+                    .map(McpRequestFilter::toBytes)
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(body -> filterMessage(exchange, chain, body));
+        }
+        return chain.filter(exchange);
+    }
+
+    /**
+     * Act on a posted JSON-RPC message and pass it on. The body was consumed to read it, so the
+     * request handed down the chain replays it.
+     */
+    private Mono<Void> filterMessage(ServerWebExchange exchange, WebFilterChain chain, byte[] body) {
+        JsonNode message = readMessage(body);
+        String method = message.path("method").asText();
+        if ("notifications/cancelled".equals(method)) {
+            JsonNode params = message.path("params");
+            cancellation.cancel(client(exchange.getRequest()), params.path("requestId").asText(), params.path("reason").asText("cancelled by client"));
+            // Handled here; the MCP server has no handler for it and would log an error
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return exchange.getResponse().setComplete();
+        }
+        ServerHttpRequest replayed = new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return Flux.defer(() -> Flux.just(exchange.getResponse().bufferFactory().wrap(body)));
+            }
+        };
+        Mono<Void> filtered = chain.filter(exchange.mutate().request(replayed).build());
+        if (!"tools/call".equals(method) || !message.hasNonNull("id")) {
+            return filtered;
+        }
+        // The MCP server dispatches the request while the replayed body is subscribed to, on the subscribing thread,
+        // and subscribes to the tool handler in a pipeline of its own, so the handler cannot see this Reactor context
+        McpRequestContext.Request request = new McpRequestContext.Request(message.get("id").asText(), client(exchange.getRequest()));
+        return Mono.from(subscriber -> McpRequestContext.dispatch(request, () -> filtered.subscribe(subscriber)));
+    }
+
+    private static String client(ServerHttpRequest request) {
+        String sessionId = request.getQueryParams().getFirst("sessionId");
+        if (sessionId != null && !sessionId.isBlank()) {
+            return sessionId;
+        }
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress == null ? McpRequestContext.UNKNOWN_CLIENT : remoteAddress.getHostString();
+    }
+
+    private static JsonNode readMessage(byte[] body) {
+        try {
+            JsonNode message = JsonParser.getObjectMapper().readTree(body);
+            return message != null ? message : JsonParser.getObjectMapper().missingNode();
+        } catch (IOException e) {
+            // Malformed messages are rejected by the MCP transport itself
+            logger.debug("Could not read MCP message: {}", e.getMessage());
+            return JsonParser.getObjectMapper().missingNode();
+        }
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
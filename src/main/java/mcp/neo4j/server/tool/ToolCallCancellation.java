@@ -0,0 +1,167 @@
+package mcp.neo4j.server.tool;
+
+import mcp.neo4j.server.service.ToolCallSessions;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author dsimile
+ * @date 2026-10-18 17:00
+ * @description Keeps the tool calls that are still running so they can be cancelled by JSON-RPC request id.
+ * Cancelling a reactive call cancels its subscription, which closes the driver session and rolls back the open
+ * transaction, so the database stops working on the query and the pooled connection is released. Cancelling a
+ * blocking call resets the driver sessions it opened, see {@link ToolCallSessions}, which terminates its
+ * transaction, and interrupts the thread running it, which ends a wait for admission.
+ * Every client numbers its requests on its own, so calls are kept per client and request id, both taken from the
+ * {@link McpRequestContext} of the dispatching thread, and a client can only cancel its own calls.
+ */
+@Component
+public class ToolCallCancellation {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolCallCancellation.class);
+    private final Map<Call, Sinks.One<String>> running = new ConcurrentHashMap<>();
+
+    /**
+     * @param client    The client that sent the request.
+     * @param requestId The JSON-RPC id of the request, or an object of its own for a request without an id.
+     */
+    private record Call(String client, Object requestId) {
+    }
+
+    /**
+     * Make a tool call cancellable. Must be called on the thread that dispatches the request.
+     *
+     * @param call The publisher of the tool result.
+     * @return The same elements, or a {@link CancellationException} once the call was cancelled.
+     */
+    public <T> Flux<T> cancellable(Publisher<T> call) {
+        String requestId = McpRequestContext.requestId();
+        // Calls dispatched without an id can still be cancelled with the other calls of their client
+        Call key = new Call(McpRequestContext.client(), requestId != null ? requestId : new Object());
+        Sinks.One<String> cancelled = Sinks.one();
+        return Flux.from(call)
+                // Settle the signal on normal completion, so the check below does not wait for it
+                .doOnComplete(cancelled::tryEmitEmpty)
+                .takeUntilOther(cancelled.asMono())
+                .concatWith(cancelled.asMono().flatMap(reason -> Mono.<T>error(new CancellationException(reason))))
+                .doFirst(() -> running.put(key, cancelled))
+                .doFinally(signal -> running.remove(key, cancelled));
+    }
+
+    /**
+     * Make a blocking tool call cancellable. It runs on the given scheduler; cancelling it resets the driver sessions
+     * it opened and interrupts the thread running it. Must be called on the thread that dispatches the request.
+     *
+     * @param call      The blocking tool call.
+     * @param scheduler The scheduler to run the call on.
+     * @return The result of the call, or a {@link CancellationException} once the call was cancelled.
+     */
+    public <T> Mono<T> cancellable(Callable<T> call, Scheduler scheduler) {
+        return cancellable(Mono.defer(() -> {
+            BlockingCall<T> blocking = new BlockingCall<>(call);
+            return Mono.fromCallable(blocking).doOnCancel(blocking::interrupt);
+        }).subscribeOn(scheduler)).next();
+    }
+
+    /**
+     * @param client    The client that sent the request and now cancels it.
+     * @param requestId The JSON-RPC id of the request to cancel.
+     * @param reason    Why the call is cancelled, reported as the tool error.
+     */
+    public void cancel(String client, String requestId, String reason) {
+        Sinks.One<String> cancelled = running.get(new Call(client, requestId));
+        if (cancelled != null) {
+            logger.info("Cancelling tool call {} of client {}: {}", requestId, client, reason);
+            cancelled.tryEmitValue(reason);
+        }
+    }
+
+    /**
+     * @param client The client whose running calls are cancelled.
+     * @param reason Why the calls are cancelled, reported as the tool error.
+     */
+    public void cancelAll(String client, String reason) {
+        running.forEach((call, cancelled) -> {
+            if (call.client().equals(client)) {
+                logger.info("Cancelling tool call {} of client {}: {}", call.requestId(), client, reason);
+                cancelled.tryEmitValue(reason);
+            }
+        });
+    }
+
+    /**
+     * A blocking call that can be interrupted from another thread while it runs, and only then.
+     */
+    private static final class BlockingCall<T> implements Callable<T> {
+
+        private final Callable<T> call;
+        private final ToolCallSessions sessions = new ToolCallSessions();
+        private Thread thread;
+        private boolean cancelled;
+
+        private BlockingCall(Callable<T> call) {
+            this.call = call;
+        }
+
+        @Override
+        public T call() throws Exception {
+            synchronized (this) {
+                if (cancelled) {
+                    return null;
+                }
+                thread = Thread.currentThread();
+            }
+            try {
+                return ToolCallSessions.run(sessions, this::callUnchecked);
+            } catch (Exception e) {
+                synchronized (this) {
+                    if (cancelled) {
+                        // Nobody waits for the result any more
+                        logger.debug("Cancelled tool call ended with: {}", e.getMessage());
+                        return null;
+                    }
+                }
+                throw e;
+            } finally {
+                synchronized (this) {
+                    thread = null;
+                    if (cancelled) {
+                        // The thread goes back to its pool; clear the interrupt before it runs anything else
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        private T callUnchecked() {
+            try {
+                return call.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        synchronized void interrupt() {
+            cancelled = true;
+            if (thread != null) {
+                thread.interrupt();
+                // Resetting waits for the database, so it must not hold up the thread that cancels
+                Schedulers.boundedElastic().schedule(sessions::cancel);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package mcp.neo4j.server.cypher;
+
+import mcp.neo4j.server.cypher.CypherClassifier.QueryKind;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 10:00
+ * @description Table tests for {@link CypherClassifier}.
+ */
+class CypherClassifierTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "MATCH (n:Person) RETURN n",
+            "MATCH (n) WHERE n.name = 'CREATE (x)' RETURN n",
+            "MATCH (n) // DELETE n\nRETURN n",
+            "MATCH (n) /* SET n.x = 1 */ RETURN n",
+            "MATCH (n:`DELETE`) RETURN n.set, n.merge",
+            "MATCH (n) RETURN n {.create, remove: 1}",
+            "MATCH (start)-[:R]->(x) RETURN start, x",
+            "MATCH p=(start {name: 'A'})-[*]->(end) RETURN p",
+            "MATCH (stop:Stop) RETURN stop.name AS stop",
+            "MATCH (n) WITH n AS terminate RETURN terminate",
+            "MATCH (n) RETURN n.enable, n.start AS start",
+            "MATCH (set) RETURN set.value",
+            "CALL db.labels() YIELD label RETURN label",
+            "CALL { MATCH (n) RETURN count(n) AS c } RETURN c",
+            "CALL gds.pageRank.stream('g') YIELD nodeId RETURN nodeId",
+            "CALL apoc.load.json('file:///people.json') YIELD value RETURN value",
+            "CALL apoc.load.jdbc('jdbc:h2:mem:test', 'people') YIELD row RETURN row",
+            "SHOW DATABASES",
+            "SHOW TRANSACTIONS"
+    })
+    void classifiesReads(String query) {
+        assertThat(CypherClassifier.scan(query).kind()).isEqualTo(QueryKind.READ);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "CREATE (n:Person)",
+            "MATCH (n) DETACH DELETE n",
+            "MATCH (n) SET n.x = 1",
+            "merge (n:Person {id: 1}) on create set n.created = 1",
+            "MATCH (n) CALL { WITH n DELETE n }",
+            "CALL apoc.create.node(['Person'], {})",
+            "CALL gds.pageRank.write('g', {})",
+            "CALL apoc.load.jdbcUpdate('jdbc:h2:mem:test', 'DELETE FROM people')",
+            "INSERT (n:Person {name: 'Alice'})",
+            "MATCH (a:Person {name: 'Alice'}) INSERT (a)-[:KNOWS]->(:Person {name: 'Bob'})",
+            "DROP INDEX person_name",
+            "START DATABASE movies",
+            "STOP DATABASE movies",
+            "start database movies",
+            "TERMINATE TRANSACTIONS 'neo4j-transaction-1'",
+            "TERMINATE TRANSACTION 'neo4j-transaction-1'",
+            "SHOW TRANSACTIONS YIELD transactionId WHERE transactionId = 'x' TERMINATE TRANSACTIONS transactionId",
+            "ENABLE SERVER 'server-id'",
+            "DEALLOCATE DATABASES FROM SERVER 'server-id'",
+            "REALLOCATE DATABASES",
+            "USE system START DATABASE movies",
+            "MATCH (n) WHERE n.x IN $xs CREATE (m:Copy)",
+            "MATCH (n) WHERE 1 IN concurrent DELETE n"
+    })
+    void classifiesWrites(String query) {
+        assertThat(CypherClassifier.scan(query).kind()).isEqualTo(QueryKind.WRITE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "CALL apoc.cypher.doIt('CREATE (n)', {})",
+            "CALL apoc.periodic.iterate(\"MATCH (n) RETURN n\", \"DETACH DELETE n\", {})",
+            "LOAD CSV FROM 'file:///people.csv' AS row RETURN row",
+            "CALL my.procedure()"
+    })
+    void leavesDynamicQueriesUnknown(String query) {
+        assertThat(CypherClassifier.scan(query).kind()).isEqualTo(QueryKind.UNKNOWN);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "MATCH (n) CALL { WITH n DETACH DELETE n } IN TRANSACTIONS OF 100 ROWS",
+            "MATCH (n) CALL { WITH n DETACH DELETE n } in transactions",
+            "LOAD CSV FROM 'file:///x.csv' AS row CALL { WITH row CREATE (:X) } IN TRANSACTIONS ON ERROR CONTINUE",
+            "MATCH (n) CALL (n) { DETACH DELETE n } IN 4 CONCURRENT TRANSACTIONS",
+            "USING PERIODIC COMMIT LOAD CSV FROM 'file:///x.csv' AS row CREATE (:X)",
+            "USING PERIODIC COMMIT 500 LOAD CSV FROM 'file:///x.csv' AS row CREATE (:X)",
+            "MATCH (n) CALL (n) { DETACH DELETE n } IN CONCURRENT TRANSACTIONS OF 10 ROWS",
+            "MATCH (n) CALL (n) { DETACH DELETE n } IN $threads CONCURRENT TRANSACTIONS"
+    })
+    void detectsQueriesManagingTheirOwnTransactions(String query) {
+        assertThat(CypherClassifier.scan(query).autoCommit()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "MATCH (n) WHERE n.x IN [1, 2] RETURN n",
+            "MATCH (n) WHERE n.kind IN $transactions RETURN n",
+            "MATCH (n) WHERE n.note = 'IN TRANSACTIONS' RETURN n",
+            "MATCH (n) // CALL { } IN TRANSACTIONS\nRETURN n",
+            "MATCH (n:Transactions) WHERE 'x' IN n.tags RETURN n",
+            "MATCH (n) CALL { WITH n SET n.x = 1 } RETURN n",
+            "MATCH (n) WHERE 1 IN concurrent RETURN n",
+            "MATCH (n) WHERE n.x IN $xs RETURN n"
+    })
+    void runsOtherQueriesInTransactionFunctions(String query) {
+        assertThat(CypherClassifier.scan(query).autoCommit()).isFalse();
+    }
+
+    @Test
+    void cachesClassifications() {
+        CypherClassifier classifier = new CypherClassifier(10);
+        assertThat(classifier.classify("MATCH (start) RETURN start")).isEqualTo(QueryKind.READ);
+        assertThat(classifier.analyze("MATCH (start) RETURN start")).isSameAs(classifier.analyze("MATCH (start) RETURN start"));
+    }
+}
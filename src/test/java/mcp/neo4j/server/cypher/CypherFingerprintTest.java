@@ -0,0 +1,51 @@
+package mcp.neo4j.server.cypher;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 12:30
+ * @description Tests for {@link CypherFingerprint}: queries that only differ in literals, whitespace or comments
+ * share a fingerprint, and queries that differ in anything else do not.
+ */
+class CypherFingerprintTest {
+
+    @Test
+    void replacesLiteralsAndWhitespace() {
+        assertThat(CypherFingerprint.normalize("MATCH (n:Person {name: 'Alice'})\n  WHERE n.age > 30 // adults\nRETURN n"))
+                .isEqualTo("MATCH (n:Person {name: ?}) WHERE n.age > ? RETURN n");
+    }
+
+    @Test
+    void collapsesLiteralLists() {
+        assertThat(CypherFingerprint.normalize("MATCH (n) WHERE n.id IN [1, 2, 3] RETURN n"))
+                .isEqualTo(CypherFingerprint.normalize("MATCH (n) WHERE n.id IN [7] RETURN n"))
+                .isEqualTo("MATCH (n) WHERE n.id IN [?] RETURN n");
+        assertThat(CypherFingerprint.normalize("RETURN [1, n.x]")).isEqualTo("RETURN [?, n.x]");
+    }
+
+    @Test
+    void keepsEverythingButLiterals() {
+        assertThat(CypherFingerprint.normalize("MATCH (n:Person) RETURN n"))
+                .isNotEqualTo(CypherFingerprint.normalize("MATCH (n:Movie) RETURN n"));
+        assertThat(CypherFingerprint.normalize("MATCH (n) WHERE n.name = $name RETURN n"))
+                .isEqualTo("MATCH (n) WHERE n.name = $name RETURN n");
+        assertThat(CypherFingerprint.normalize("MATCH (n:`It's`) RETURN n")).isEqualTo("MATCH (n:`It's`) RETURN n");
+    }
+
+    @Test
+    void listsLiteralsInQueryOrder() {
+        assertThat(CypherFingerprint.literals("MATCH (n {name: 'Alice'}) WHERE n.age > 30 AND n.x IN [1.5, \"b\"] RETURN n"))
+                .containsExactly("'Alice'", "30", "1.5", "\"b\"");
+    }
+
+    @Test
+    void derivesStableIds() {
+        String fingerprint = CypherFingerprint.normalize("MATCH (n) RETURN n LIMIT 10");
+        assertThat(CypherFingerprint.id(fingerprint)).hasSize(16).isEqualTo(CypherFingerprint.id(fingerprint))
+                .isEqualTo(CypherFingerprint.id(CypherFingerprint.normalize("MATCH (n)   RETURN n LIMIT 20")))
+                .isNotEqualTo(CypherFingerprint.id(CypherFingerprint.normalize("MATCH (m) RETURN m LIMIT 10")));
+    }
+}
@@ -0,0 +1,82 @@
+package mcp.neo4j.server.cypher;
+
+import mcp.neo4j.server.cypher.CypherFootprint.Footprint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 11:50
+ * @description Tests for {@link CypherFootprint}. A cached read is only dropped on writes to the labels of its
+ * footprint, so a footprint must never be reported complete while the query may read other data.
+ */
+class CypherFootprintTest {
+
+    @Test
+    void collectsLabelsAndRelationshipTypes() {
+        Footprint footprint = CypherFootprint.scan("MATCH (p:Person)-[:ACTED_IN|:DIRECTED]->(m:`Movie Title`) WHERE p.born > 1960 RETURN p, m");
+        assertThat(footprint.labels()).containsExactlyInAnyOrder("Person", "ACTED_IN", "DIRECTED", "Movie Title");
+        assertThat(footprint.complete()).isTrue();
+        assertThat(footprint.deterministic()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "MATCH (p:Person) RETURN count(p) AS n",
+            "MATCH (p:Person:Actor) RETURN p.name",
+            "MATCH (p:Person|Actor) RETURN p.name",
+            "MATCH (p:Person)-[r:KNOWS]->(q:Person) RETURN r.since",
+            "MATCH (p:Person) WHERE EXISTS { MATCH (p:Person)-[:KNOWS]->(:Person) } RETURN p",
+            "MATCH (p:Person) RETURN p {.name, .born}",
+            "MATCH (p:Person) RETURN COUNT { MATCH (p:Person)-[:KNOWS]->(:Person) } AS friends",
+            "MATCH (p:Person) WITH p ORDER BY p.name LIMIT 10 RETURN collect(p.name)",
+            "MATCH (p:Person) RETURN toUpper(p.name) AS name, size(p.aliases) AS aliases"
+    })
+    void completeWhenEveryPatternNamesALabel(String query) {
+        assertThat(CypherFootprint.scan(query).complete()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "MATCH (n) RETURN n",
+            "MATCH (p:Person)-[r]->(m:Movie) RETURN r",
+            "MATCH (p:Person)-->(m:Movie) RETURN m",
+            "MATCH (p:Person)--(m:Movie) RETURN m",
+            "MATCH (p:Person) WHERE (p)-[:KNOWS]->() RETURN p",
+            "MATCH (p:Person) WHERE EXISTS { (p)-[:KNOWS]->(:Person) } RETURN p",
+            "MATCH (p:!Person) RETURN p",
+            "MATCH (p:%) RETURN p",
+            "MATCH (p:Person) CALL db.labels() YIELD label RETURN label",
+            "CALL apoc.meta.data()",
+            "SHOW INDEXES",
+            "USE other MATCH (p:Person) RETURN p",
+            "MATCH (p:Person) OPTIONAL MATCH (p)-[:KNOWS]->(q) RETURN q"
+    })
+    void incompleteWhenAPatternMayMatchAnything(String query) {
+        assertThat(CypherFootprint.scan(query).complete()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "RETURN rand() AS r",
+            "MATCH (p:Person) RETURN p, randomUUID() AS id",
+            "MATCH (p:Person) WHERE p.updated > datetime() - duration('P1D') RETURN p",
+            "MATCH (p:Person) RETURN date.truncate('month', date()) AS month",
+            "LOAD CSV FROM 'file:///people.csv' AS row MATCH (p:Person {id: row.id}) RETURN p",
+            "USE other MATCH (p:Person) RETURN p"
+    })
+    void notDeterministicWhenResultsDependOnMoreThanTheData(String query) {
+        assertThat(CypherFootprint.scan(query).deterministic()).isFalse();
+    }
+
+    @Test
+    void ignoresPropertiesAndMapKeysNamedLikeFunctions() {
+        Footprint footprint = CypherFootprint.scan("MATCH (e:Event {date: $date}) RETURN e.date AS date, e.timestamp");
+        assertThat(footprint.labels()).containsExactly("Event");
+        assertThat(footprint.complete()).isTrue();
+        assertThat(footprint.deterministic()).isTrue();
+    }
+}
@@ -0,0 +1,48 @@
+package mcp.neo4j.server.cypher;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 12:10
+ * @description Tests for {@link CypherLimit}: only the limit of the final RETURN bounds the result.
+ */
+class CypherLimitTest {
+
+    @Test
+    void readsTheLimitOfTheFinalReturn() {
+        assertThat(CypherLimit.returnLimit("MATCH (n) RETURN n LIMIT 25", null)).isEqualTo(25L);
+        assertThat(CypherLimit.returnLimit("MATCH (n) RETURN n ORDER BY n.name SKIP 10 LIMIT 1_000", null)).isEqualTo(1000L);
+        assertThat(CypherLimit.returnLimit("MATCH (n) WHERE n.name STARTS WITH 'A' RETURN n LIMIT 5", null)).isEqualTo(5L);
+        assertThat(CypherLimit.returnLimit("MATCH (n) RETURN n.name ENDS WITH 'z' AS z LIMIT 7", null)).isEqualTo(7L);
+    }
+
+    @Test
+    void resolvesParameterLimits() {
+        assertThat(CypherLimit.returnLimit("MATCH (n) RETURN n LIMIT $limit", Map.of("limit", 40))).isEqualTo(40L);
+        assertThat(CypherLimit.returnLimit("MATCH (n) RETURN n LIMIT $`row limit`", Map.of("row limit", 3L))).isEqualTo(3L);
+        assertThat(CypherLimit.returnLimit("MATCH (n) RETURN n LIMIT $limit", Map.of())).isNull();
+        assertThat(CypherLimit.returnLimit("MATCH (n) RETURN n LIMIT $limit", null)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "MATCH (n) RETURN n",
+            "MATCH (n) WITH n LIMIT 10 RETURN n",
+            "MATCH (n) RETURN n LIMIT 10 UNION MATCH (m) RETURN m AS n LIMIT 10",
+            "CALL { MATCH (n) RETURN n LIMIT 10 } RETURN n",
+            "MATCH (n) RETURN n LIMIT 2 * 5",
+            "MATCH (n) RETURN n.limit AS limit",
+            "MATCH (n) RETURN n LIMIT toInteger($limit)",
+            "CREATE (n:Person)"
+    })
+    void leavesUnboundedResultsWithoutALimit(String query) {
+        assertThat(CypherLimit.returnLimit(query, Map.of("limit", 5))).isNull();
+    }
+}
@@ -0,0 +1,52 @@
+package mcp.neo4j.server.cypher;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 14:30
+ * @description Tests for {@link CypherPaging}: later pages add SKIP and LIMIT to the final RETURN and keep its columns.
+ */
+class CypherPagingTest {
+
+    @Test
+    void pagesUnaliasedReturnItemsInPlace() {
+        assertThat(CypherPaging.page("MATCH (p:Person) RETURN p.name ORDER BY p.name;", true))
+                .isEqualTo("MATCH (p:Person) RETURN p.name ORDER BY p.name SKIP $mcp_skip LIMIT $mcp_limit");
+        assertThat(CypherPaging.page("MATCH (p:Person) RETURN p.name, p.born", false))
+                .isEqualTo("MATCH (p:Person) RETURN p.name, p.born SKIP $mcp_skip");
+    }
+
+    @Test
+    void combinesTheSkipAndLimitOfTheQuery() {
+        assertThat(CypherPaging.page("MATCH (p:Person) RETURN p ORDER BY p.name SKIP 10 LIMIT $n", true))
+                .isEqualTo("MATCH (p:Person) RETURN p ORDER BY p.name SKIP (10) + $mcp_skip "
+                        + "LIMIT CASE WHEN ($n) - $mcp_skip < $mcp_limit THEN ($n) - $mcp_skip ELSE $mcp_limit END");
+        assertThat(CypherPaging.page("MATCH (p:Person) RETURN p LIMIT 2 * 50", false))
+                .isEqualTo("MATCH (p:Person) RETURN p SKIP $mcp_skip LIMIT (2 * 50) - $mcp_skip");
+    }
+
+    @Test
+    void ignoresSkipAndLimitBeforeTheFinalReturn() {
+        assertThat(CypherPaging.page("MATCH (p:Person) WITH p LIMIT 10 CALL { MATCH (m) RETURN m SKIP 1 } RETURN p AS skip, m", true))
+                .isEqualTo("MATCH (p:Person) WITH p LIMIT 10 CALL { MATCH (m) RETURN m SKIP 1 } RETURN p AS skip, m SKIP $mcp_skip LIMIT $mcp_limit");
+        assertThat(CypherPaging.page("MATCH (p) WHERE p.name STARTS WITH 'A' RETURN p.limit", false))
+                .isEqualTo("MATCH (p) WHERE p.name STARTS WITH 'A' RETURN p.limit SKIP $mcp_skip");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "CALL db.labels()",
+            "CALL db.labels() YIELD label",
+            "SHOW INDEXES",
+            "MATCH (p:Person) RETURN p.name UNION MATCH (m:Movie) RETURN m.title AS `p.name`",
+            "MATCH (p:Person) WITH p.name AS name FINISH"
+    })
+    void refusesQueriesWithoutAFinalReturn(String query) {
+        assertThat(CypherPaging.page(query, true)).isNull();
+    }
+}
@@ -0,0 +1,92 @@
+package mcp.neo4j.server.cypher;
+
+import mcp.neo4j.server.cypher.CypherParameterizer.Parameterized;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 11:20
+ * @description Round-trip tests for {@link CypherParameterizer}: the rewritten query with its parameters must
+ * mean the same as the original one and produce the same columns.
+ */
+class CypherParameterizerTest {
+
+    @Test
+    void extractsStringAndNumberLiterals() {
+        Parameterized parameterized = CypherParameterizer.parameterize(
+                "MATCH (n:Person {name: 'Alice'}) WHERE n.age > 30 AND n.score < 1.5 RETURN n", null);
+        assertThat(parameterized.query()).isEqualTo("MATCH (n:Person {name: $p0}) WHERE n.age > $p1 AND n.score < $p2 RETURN n");
+        assertThat(parameterized.params()).containsExactlyInAnyOrderEntriesOf(Map.of("p0", "Alice", "p1", 30L, "p2", 1.5));
+    }
+
+    @Test
+    void unescapesStrings() {
+        Parameterized parameterized = CypherParameterizer.parameterize("MATCH (n) WHERE n.name = 'It\\'s \\u00e9' RETURN n", null);
+        assertThat(parameterized.query()).isEqualTo("MATCH (n) WHERE n.name = $p0 RETURN n");
+        assertThat(parameterized.params()).containsEntry("p0", "It's é");
+    }
+
+    @Test
+    void neverReusesParameterNames() {
+        Parameterized parameterized = CypherParameterizer.parameterize("MATCH (n) WHERE n.x = $p0 AND n.y = 'b' RETURN n", Map.of("p0", "a"));
+        assertThat(parameterized.query()).isEqualTo("MATCH (n) WHERE n.x = $p0 AND n.y = $p1 RETURN n");
+        assertThat(parameterized.params()).containsExactlyInAnyOrderEntriesOf(Map.of("p0", "a", "p1", "b"));
+    }
+
+    @Test
+    void treatsStartsWithAsOperator() {
+        Parameterized parameterized = CypherParameterizer.parameterize("MATCH (n) WHERE n.name STARTS WITH 'A' RETURN n.name AS name", null);
+        assertThat(parameterized.query()).isEqualTo("MATCH (n) WHERE n.name STARTS WITH $p0 RETURN n.name AS name");
+    }
+
+    @Test
+    void keepsAliasedProjectionLiteralsOnly() {
+        Parameterized parameterized = CypherParameterizer.parameterize("MATCH (n) RETURN 'a' AS kind, n.x + 1, n.y - 2 AS y ORDER BY n.z + 3", null);
+        assertThat(parameterized.query()).isEqualTo("MATCH (n) RETURN $p0 AS kind, n.x + 1, n.y - $p1 AS y ORDER BY n.z + $p2");
+        assertThat(parameterized.params()).containsExactlyInAnyOrderEntriesOf(Map.of("p0", "a", "p1", 2L, "p2", 3L));
+    }
+
+    @Test
+    void endsProjectionsAtSubqueryBoundaries() {
+        Parameterized parameterized = CypherParameterizer.parameterize(
+                "CALL { MATCH (n) WHERE n.x = 1 RETURN n.y + 2 } WITH n.y + 2 AS y WHERE y > 3 RETURN 'z'", null);
+        assertThat(parameterized.query()).isEqualTo(
+                "CALL { MATCH (n) WHERE n.x = $p0 RETURN n.y + 2 } WITH n.y + $p1 AS y WHERE y > $p2 RETURN 'z'");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "RETURN 'a'",
+            "RETURN 1, 'b'",
+            "RETURN [1, 2, 3], {a: 'b'}",
+            "MATCH (n) RETURN COUNT { MATCH (n)-->(m) WHERE m.x = 1 }",
+            "MATCH (n) RETURN n.name STARTS WITH 'A'",
+            "MATCH (n) RETURN DISTINCT n.x + 1",
+            "MATCH (a)-[*1..3]->(b) RETURN b",
+            "MATCH (a)-[:R*2]->(b) RETURN b",
+            "MATCH (a)((x)-[:R]->(y)){1,3}(b) RETURN b",
+            "MATCH (a)-[:R]->{2,}(b) RETURN b",
+            "MATCH (a)-[:R]->{,5}(b) RETURN b",
+            "MATCH (a)--{3}(b) RETURN b",
+            "MATCH (n) WHERE n.x = 012 RETURN n",
+            "CREATE INDEX person_name FOR (n:Person) ON (n.name)",
+            "SHOW TRANSACTIONS YIELD elapsedTime WHERE elapsedTime > duration('PT1S')"
+    })
+    void leavesLiteralsThatShapeTheQuery(String query) {
+        assertThat(CypherParameterizer.parameterize(query, null).query()).isEqualTo(query);
+    }
+
+    @Test
+    void keepsQuantifierBoundsWhileExtractingOtherLiterals() {
+        Parameterized parameterized = CypherParameterizer.parameterize(
+                "MATCH (a {name: 'x'})((m)-[:R {w: 2}]->(n)){1,3}(b) WHERE b.y = 'z' RETURN b", null);
+        assertThat(parameterized.query()).isEqualTo("MATCH (a {name: $p0})((m)-[:R {w: $p1}]->(n)){1,3}(b) WHERE b.y = $p2 RETURN b");
+        assertThat(parameterized.params()).containsExactlyInAnyOrderEntriesOf(Map.of("p0", "x", "p1", 2L, "p2", "z"));
+    }
+}
@@ -0,0 +1,101 @@
+package mcp.neo4j.server.json;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalRecord;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 18:10
+ * @description Tests for {@link RecordJsonWriter}: the layout of each {@link ResultFormat}, and where the
+ * continuation of a truncated result ends up.
+ */
+class RecordJsonWriterTest {
+
+    private static final List<String> COLUMNS = List.of("name", "city", "age");
+    private static final List<Record> PEOPLE = List.of(
+            person("Ann", "Oslo", 31),
+            person("Bob", "Oslo", 42),
+            person("Cid", null, 27));
+
+    @Test
+    void writesOneObjectPerRecord() {
+        assertThat(RecordJsonWriter.records(ResultFormat.OBJECTS, COLUMNS, PEOPLE).json()).isEqualTo(
+                "[{\"name\":\"Ann\",\"city\":\"Oslo\",\"age\":31},"
+                        + "{\"name\":\"Bob\",\"city\":\"Oslo\",\"age\":42},"
+                        + "{\"name\":\"Cid\",\"city\":null,\"age\":27}]");
+    }
+
+    @Test
+    void writesColumnsOnceAndRowsAsArrays() {
+        assertThat(RecordJsonWriter.records(ResultFormat.COLUMNAR, COLUMNS, PEOPLE).json()).isEqualTo(
+                "{\"columns\":[\"name\",\"city\",\"age\"],"
+                        + "\"rows\":[[\"Ann\",\"Oslo\",31],[\"Bob\",\"Oslo\",42],[\"Cid\",null,27]]}");
+    }
+
+    @Test
+    void encodesOnlyStringColumnsWithRepeatedValues() {
+        assertThat(RecordJsonWriter.records(ResultFormat.DICTIONARY, COLUMNS, PEOPLE).json()).isEqualTo(
+                "{\"columns\":[\"name\",\"city\",\"age\"],"
+                        + "\"dictionaries\":{\"city\":[\"Oslo\"]},"
+                        + "\"rows\":[[\"Ann\",0,31],[\"Bob\",0,42],[\"Cid\",null,27]]}");
+    }
+
+    @Test
+    void appendsTheContinuationToAnArrayOfObjects() {
+        try (RecordJsonWriter writer = RecordJsonWriter.open(ResultFormat.OBJECTS, COLUMNS)) {
+            writer.write(PEOPLE.get(0));
+            writer.writeContinuation(continuation());
+            assertThat(writer.finish().json()).isEqualTo(
+                    "[{\"name\":\"Ann\",\"city\":\"Oslo\",\"age\":31},{\"truncated\":true,\"continuationToken\":\"t1\"}]");
+        }
+    }
+
+    @Test
+    void addsTheContinuationToTheTopLevelOfColumnarDocuments() {
+        for (ResultFormat format : List.of(ResultFormat.COLUMNAR, ResultFormat.DICTIONARY)) {
+            try (RecordJsonWriter writer = RecordJsonWriter.open(format, COLUMNS)) {
+                writer.write(PEOPLE.get(0));
+                writer.writeContinuation(continuation());
+                assertThat(writer.finish().json())
+                        .startsWith("{\"columns\":[\"name\",\"city\",\"age\"],")
+                        .endsWith("\"rows\":[[\"Ann\",\"Oslo\",31]],\"truncated\":true,\"continuationToken\":\"t1\"}");
+            }
+        }
+    }
+
+    @Test
+    void writesAStreamedContinuationInTheLayoutOfItsChunks() {
+        assertThat(RecordJsonWriter.continuation(ResultFormat.OBJECTS, continuation()).json())
+                .isEqualTo("[{\"truncated\":true,\"continuationToken\":\"t1\"}]");
+        assertThat(RecordJsonWriter.continuation(ResultFormat.COLUMNAR, continuation()).json())
+                .isEqualTo("{\"truncated\":true,\"continuationToken\":\"t1\"}");
+    }
+
+    @Test
+    void writesNestedValues() {
+        Record record = new InternalRecord(List.of("tags", "address"), new Value[]{
+                Values.value(List.of("a", "b")), Values.value(Map.of("zip", "0150"))});
+        assertThat(RecordJsonWriter.records(List.of(record)).json())
+                .isEqualTo("[{\"tags\":[\"a\",\"b\"],\"address\":{\"zip\":\"0150\"}}]");
+    }
+
+    private static Record person(String name, String city, long age) {
+        return new InternalRecord(COLUMNS, new Value[]{Values.value(name), city == null ? Values.NULL : Values.value(city), Values.value(age)});
+    }
+
+    private static Map<String, Object> continuation() {
+        Map<String, Object> continuation = new LinkedHashMap<>();
+        continuation.put("truncated", true);
+        continuation.put("continuationToken", "t1");
+        return continuation;
+    }
+}
@@ -0,0 +1,99 @@
+package mcp.neo4j.server.service;
+
+import mcp.neo4j.server.service.AdmissionControl.Permit;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.AccessMode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 17:10
+ * @description Tests for {@link AdmissionControl} with separate read, write and database caps: a call waiting for
+ * one cap never holds up calls that another cap lets run.
+ */
+class AdmissionControlTest {
+
+    private static final Databases DATABASES = new Databases("neo4j", List.of("other"), true);
+
+    @Test
+    void readsPassAWriteWaitingForTheWriteCap() {
+        AdmissionControl admission = admission(4, 0, 1, 0, 8);
+        Permit write = admission.acquire(AccessMode.WRITE, "alice", null).join();
+        CompletableFuture<Permit> waitingWrite = admission.acquire(AccessMode.WRITE, "alice", null);
+        assertThat(waitingWrite).isNotDone();
+
+        CompletableFuture<Permit> read = admission.acquire(AccessMode.READ, "bob", null);
+        assertThat(read).isCompleted();
+        assertThat(admission.active()).isEqualTo(2);
+        assertThat(admission.queued()).isEqualTo(1);
+
+        read.join().close();
+        assertThat(waitingWrite).isNotDone();
+        write.close();
+        assertThat(waitingWrite).isCompleted();
+        waitingWrite.join().close();
+        assertThat(admission.active()).isZero();
+    }
+
+    @Test
+    void writesDoNotPassAWriteQueuedBeforeThem() {
+        AdmissionControl admission = admission(4, 0, 1, 0, 8);
+        Permit write = admission.acquire(AccessMode.WRITE, "alice", null).join();
+        CompletableFuture<Permit> first = admission.acquire(AccessMode.WRITE, "alice", null);
+        CompletableFuture<Permit> second = admission.acquire(AccessMode.WRITE, "bob", null);
+        assertThat(admission.queued()).isEqualTo(2);
+
+        write.close();
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+        first.join().close();
+        assertThat(second).isCompleted();
+    }
+
+    @Test
+    void callsToAnotherDatabasePassACallWaitingForItsDatabaseCap() {
+        AdmissionControl admission = admission(4, 0, 0, 1, 8);
+        Permit busy = admission.acquire(AccessMode.READ, "alice", "neo4j").join();
+        CompletableFuture<Permit> waiting = admission.acquire(AccessMode.READ, "alice", "neo4j");
+        assertThat(waiting).isNotDone();
+
+        assertThat(admission.acquire(AccessMode.READ, "bob", "other")).isCompleted();
+        busy.close();
+        assertThat(waiting).isCompleted();
+    }
+
+    @Test
+    void waitsForTheOverallCapWhateverTheKindOfCall() {
+        AdmissionControl admission = admission(2, 2, 1, 0, 8);
+        Permit read = admission.acquire(AccessMode.READ, "alice", null).join();
+        Permit write = admission.acquire(AccessMode.WRITE, "alice", null).join();
+        CompletableFuture<Permit> waitingRead = admission.acquire(AccessMode.READ, "bob", null);
+        assertThat(waitingRead).isNotDone();
+
+        write.close();
+        assertThat(waitingRead).isCompleted();
+        read.close();
+    }
+
+    @Test
+    void rejectsCallsWhenTheQueueIsFull() {
+        AdmissionControl admission = admission(1, 0, 0, 0, 1);
+        admission.acquire(AccessMode.READ, "alice", null).join();
+        assertThat(admission.acquire(AccessMode.READ, "alice", null)).isNotDone();
+        assertThat(admission.acquire(AccessMode.READ, "bob", null))
+                .failsWithin(Duration.ZERO)
+                .withThrowableOfType(Exception.class)
+                .havingCause()
+                .isInstanceOf(AdmissionRejectedException.class);
+    }
+
+    private static AdmissionControl admission(int maxConcurrent, int maxReads, int maxWrites, int maxPerDatabase, int queueSize) {
+        return new AdmissionControl(true, maxConcurrent, maxReads, maxWrites, maxPerDatabase, 0, queueSize,
+                Duration.ofMinutes(1), DATABASES);
+    }
+}
@@ -0,0 +1,56 @@
+package mcp.neo4j.server.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 17:50
+ * @description Tests for {@link ContinuationStore}: a token can be redeemed again by the client it was issued to,
+ * and by no one else.
+ */
+class ContinuationStoreTest {
+
+    private final ContinuationStore store = new ContinuationStore(Duration.ofMinutes(1), 100);
+
+    @Test
+    void returnsThePositionToTheClientThatGotTheToken() {
+        String token = store.save("alice", "MATCH (p:Person) RETURN p", Map.of("x", 1), 20, QueryOptions.DEFAULT);
+        ContinuationStore.Continuation continuation = store.get("alice", token);
+        assertThat(continuation.query()).isEqualTo("MATCH (p:Person) RETURN p");
+        assertThat(continuation.params()).containsEntry("x", 1);
+        assertThat(continuation.offset()).isEqualTo(20);
+        // Tokens stay valid so that a failed page can be retried
+        assertThat(store.get("alice", token)).isEqualTo(continuation);
+    }
+
+    @Test
+    void treatsATokenOfAnotherClientAsUnknown() {
+        String token = store.save("alice", "MATCH (p:Person) RETURN p", Map.of(), 20, QueryOptions.DEFAULT);
+        assertThatThrownBy(() -> store.get("bob", token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown or expired");
+        assertThatThrownBy(() -> store.get(null, token)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void bindsTokensIssuedWithoutAClientToCallsWithoutOne() {
+        String token = store.save(null, "MATCH (p:Person) RETURN p", Map.of(), 20, QueryOptions.DEFAULT);
+        assertThat(store.get(null, token).offset()).isEqualTo(20);
+        assertThatThrownBy(() -> store.get("alice", token)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsUnknownAndExpiredTokens() {
+        assertThatThrownBy(() -> store.get("alice", "no-such-token")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.get("alice", null)).isInstanceOf(IllegalArgumentException.class);
+        ContinuationStore expiring = new ContinuationStore(Duration.ZERO, 100);
+        String token = expiring.save("alice", "MATCH (p:Person) RETURN p", Map.of(), 20, QueryOptions.DEFAULT);
+        assertThatThrownBy(() -> expiring.get("alice", token)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
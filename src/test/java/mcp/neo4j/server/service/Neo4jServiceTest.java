@@ -0,0 +1,122 @@
+package mcp.neo4j.server.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mcp.neo4j.server.McpNeo4jServerApplication;
+import mcp.neo4j.server.json.RawJson;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 15:00
+ * @description Runs the query tools against an in-process Neo4j holding five people, with a result budget of two
+ * rows, and reads truncated results page by page through read-neo4j-cypher-continue.
+ */
+class Neo4jServiceTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static Neo4j neo4j;
+    private static ConfigurableApplicationContext context;
+    private static Neo4jService service;
+
+    @BeforeAll
+    static void start() {
+        neo4j = Neo4jBuilders.newInProcessBuilder()
+                .withDisabledServer()
+                .withFixture("UNWIND ['Ann', 'Bob', 'Cid', 'Dee', 'Eve'] AS name CREATE (:Person {name: name})")
+                .build();
+        context = new SpringApplicationBuilder(McpNeo4jServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--neo4j.uri=" + neo4j.boltURI(),
+                        "--neo4j.username=neo4j",
+                        "--neo4j.password=neo4j",
+                        "--neo4j.database=neo4j",
+                        "--neo4j.schema.engine=catalog",
+                        "--neo4j.result.max-rows=2");
+        service = context.getBean(Neo4jService.class);
+    }
+
+    @AfterAll
+    static void stop() {
+        context.close();
+        neo4j.close();
+    }
+
+    @Test
+    void continuesUnaliasedReturnItems() {
+        assertThat(readAll("MATCH (p:Person) RETURN p.name ORDER BY p.name", "p.name"))
+                .containsExactly("Ann", "Bob", "Cid", "Dee", "Eve");
+    }
+
+    @Test
+    void continuesWithinTheLimitOfTheQuery() {
+        assertThat(readAll("MATCH (p:Person) RETURN p.name AS name ORDER BY name SKIP 1 LIMIT 3", "name"))
+                .containsExactly("Bob", "Cid", "Dee");
+    }
+
+    @Test
+    void saysWhenAResultCannotBeContinued() {
+        List<Map<String, Object>> page = rows(service.neo4jRead(
+                "MATCH (p:Person) RETURN p.name AS name UNION RETURN 'Zed' AS name", null, null, null, null, null, null));
+        assertThat(page).hasSize(3);
+        assertThat(page.get(2)).containsEntry("truncated", true).containsKey("message").doesNotContainKey("continuationToken");
+    }
+
+    @Test
+    void failsTheCallOnDatabaseErrors() {
+        assertThatThrownBy(() -> service.neo4jRead("MATCH (p:Person) RETURN p.name ORDER BY", null, null, null, null, null, null))
+                .isInstanceOf(QueryFailedException.class)
+                .hasMessageContaining("Neo.ClientError.Statement.SyntaxError");
+    }
+
+    @Test
+    void cutsTransactionStatementsOffAtTheBudget() {
+        List<Map<String, Object>> results = service.neo4jTransaction(new CypherStatement[]{
+                new CypherStatement("MATCH (p:Person) RETURN p.name AS name ORDER BY name", null)}, null, null, null, null);
+        assertThat(results).singleElement().satisfies(entry -> {
+            assertThat(entry).containsEntry("truncated", true);
+            assertThat(rows((RawJson) entry.get("records"))).extracting(row -> row.get("name")).containsExactly("Ann", "Bob");
+        });
+    }
+
+    private static List<Object> readAll(String query, String column) {
+        List<Object> values = new ArrayList<>();
+        List<Map<String, Object>> page = rows(service.neo4jRead(query, null, null, null, null, null, null));
+        while (true) {
+            Map<String, Object> last = page.get(page.size() - 1);
+            boolean truncated = Boolean.TRUE.equals(last.get("truncated"));
+            for (Map<String, Object> row : truncated ? page.subList(0, page.size() - 1) : page) {
+                values.add(row.get(column));
+            }
+            if (!truncated) {
+                return values;
+            }
+            assertThat(page).hasSize(3);
+            page = rows(service.neo4jReadContinue((String) last.get("continuationToken")));
+        }
+    }
+
+    private static List<Map<String, Object>> rows(RawJson json) {
+        try {
+            return MAPPER.readValue(json.json(), new TypeReference<>() {
+            });
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package mcp.neo4j.server.service;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalRecord;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 17:40
+ * @description Tests for {@link ResultBudget}: a tracker stops at the row or byte limit, and reports the records it
+ * left behind so the result can be continued.
+ */
+class ResultBudgetTest {
+
+    @Test
+    void stopsAtTheRowLimit() {
+        ResultBudget.Tracker tracker = new ResultBudget(2, 0).tracker();
+        assertThat(tracker.tryAdd(name("Ann"))).isTrue();
+        assertThat(tracker.tryAdd(name("Bob"))).isTrue();
+        assertThat(tracker.isExhausted()).isFalse();
+        assertThat(tracker.tryAdd(name("Cid"))).isFalse();
+        assertThat(tracker.isExhausted()).isTrue();
+        assertThat(tracker.rows()).isEqualTo(2);
+    }
+
+    @Test
+    void staysExhaustedOnceARecordWasLeftBehind() {
+        ResultBudget.Tracker tracker = new ResultBudget(0, ResultBudget.estimateSize(name("Ann")) + 1).tracker();
+        assertThat(tracker.tryAdd(name("Ann"))).isTrue();
+        assertThat(tracker.tryAdd(name("Bob"))).isFalse();
+        // A smaller record would fit, but the result has to continue where it was cut off
+        assertThat(tracker.tryAdd(new InternalRecord(List.of(), new org.neo4j.driver.Value[0]))).isFalse();
+        assertThat(tracker.rows()).isEqualTo(1);
+    }
+
+    @Test
+    void acceptsAFirstRecordLargerThanTheByteLimit() {
+        ResultBudget.Tracker tracker = new ResultBudget(0, 4).tracker();
+        assertThat(tracker.tryAdd(name("a name longer than the byte limit"))).isTrue();
+        assertThat(tracker.tryAdd(name("Bob"))).isFalse();
+        assertThat(tracker.isExhausted()).isTrue();
+    }
+
+    @Test
+    void neverRunsOutWithoutLimits() {
+        ResultBudget.Tracker tracker = new ResultBudget(0, 0).tracker();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(tracker.tryAdd(name("Ann"))).isTrue();
+        }
+        assertThat(tracker.isExhausted()).isFalse();
+    }
+
+    @Test
+    void estimatesTheJsonSizeOfARecord() {
+        // {"name":"Ann"} is 14 characters
+        assertThat(ResultBudget.estimateSize(name("Ann"))).isBetween(10L, 20L);
+        Record nested = new InternalRecord(List.of("tags"), new org.neo4j.driver.Value[]{Values.value(List.of("a", "b"))});
+        assertThat(ResultBudget.estimateSize(nested)).isGreaterThan(ResultBudget.estimateSize(
+                new InternalRecord(List.of("tags"), new org.neo4j.driver.Value[]{Values.value(List.of())})));
+    }
+
+    private static Record name(String name) {
+        return new InternalRecord(List.of("name"), new org.neo4j.driver.Value[]{Values.value(name)});
+    }
+}
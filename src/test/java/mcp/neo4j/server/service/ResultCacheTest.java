@@ -0,0 +1,80 @@
+package mcp.neo4j.server.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mcp.neo4j.server.json.RawJson;
+import mcp.neo4j.server.json.ResultFormat;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 18:00
+ * @description Tests for {@link ResultCache}: a write drops the cached reads of its labels on its database, and every
+ * cached read when it may touch anything.
+ */
+class ResultCacheTest {
+
+    private static final String PEOPLE = "MATCH (p:Person) RETURN p.name AS name";
+    private static final String MOVIES = "MATCH (m:Movie) RETURN m.title AS title";
+    private static final RawJson PAGE = new RawJson("[{\"name\":\"Ann\"}]");
+
+    private final ResultCache cache = new ResultCache(true, 1 << 20, 1 << 16, Duration.ofMinutes(1), 100,
+            new QueryMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void servesQueriesThatOnlyDifferInWhitespace() {
+        cache.put(lookup("neo4j", PEOPLE), PAGE);
+        assertThat(lookup("neo4j", "MATCH (p:Person)\n  RETURN p.name AS name").page()).isEqualTo(PAGE);
+        assertThat(cache.lookup("default", "neo4j", PEOPLE, Map.of(), ResultFormat.COLUMNAR).page()).isNull();
+        assertThat(cache.lookup("default", "neo4j", PEOPLE, Map.of("x", 1), ResultFormat.OBJECTS).page()).isNull();
+    }
+
+    @Test
+    void dropsTheReadsOfTheLabelsAWriteTouches() {
+        cache.put(lookup("neo4j", PEOPLE), PAGE);
+        cache.put(lookup("neo4j", MOVIES), PAGE);
+        cache.put(lookup("other", PEOPLE), PAGE);
+        cache.invalidate("default", "neo4j", "MATCH (p:Person {name: 'Ann'}) SET p.born = 1970");
+        assertThat(lookup("neo4j", PEOPLE).page()).isNull();
+        assertThat(lookup("neo4j", MOVIES).page()).isEqualTo(PAGE);
+        assertThat(lookup("other", PEOPLE).page()).isEqualTo(PAGE);
+    }
+
+    @Test
+    void dropsEveryReadOnAWriteThatMayTouchAnything() {
+        cache.put(lookup("neo4j", PEOPLE), PAGE);
+        cache.put(lookup("other", MOVIES), PAGE);
+        cache.invalidate("default", "neo4j", "MATCH (n) DETACH DELETE n");
+        assertThat(lookup("neo4j", PEOPLE).page()).isNull();
+        assertThat(lookup("other", MOVIES).page()).isNull();
+    }
+
+    @Test
+    void dropsReadsThatMayReadAnythingOnEveryWrite() {
+        String everything = "MATCH (n) RETURN count(n) AS nodes";
+        cache.put(lookup("neo4j", everything), PAGE);
+        cache.invalidate("default", "neo4j", "CREATE (:Movie {title: 'Heat'})");
+        assertThat(lookup("neo4j", everything).page()).isNull();
+    }
+
+    @Test
+    void doesNotCacheAReadThatOverlappedAWrite() {
+        ResultCache.Lookup before = lookup("neo4j", MOVIES);
+        cache.invalidate("default", "neo4j", "CREATE (:Person {name: 'Zed'})");
+        cache.put(before, PAGE);
+        assertThat(lookup("neo4j", MOVIES).page()).isNull();
+    }
+
+    @Test
+    void doesNotCacheNonDeterministicReads() {
+        assertThat(cache.lookup("default", "neo4j", "MATCH (p:Person) RETURN p, rand() AS r", Map.of(), ResultFormat.OBJECTS)).isNull();
+    }
+
+    private ResultCache.Lookup lookup(String database, String query) {
+        return cache.lookup("default", database, query, Map.of(), ResultFormat.OBJECTS);
+    }
+}
@@ -0,0 +1,81 @@
+package mcp.neo4j.server.tool;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author dsimile
+ * @date 2026-10-19 15:40
+ * @description Tests for {@link ToolCallCancellation}: cancelling a blocking call interrupts the thread running it,
+ * and a client can only end its own calls.
+ */
+class ToolCallCancellationTest {
+
+    private final ToolCallCancellation cancellation = new ToolCallCancellation();
+
+    @Test
+    void interruptsACancelledBlockingCall() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+        CompletableFuture<String> result = dispatch("1", "alice", () -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+                interrupted.complete(false);
+            } catch (InterruptedException e) {
+                interrupted.complete(true);
+                throw e;
+            }
+            return "done";
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        cancellation.cancel("bob", "1", "not bob's call");
+        cancellation.cancel("alice", "1", "cancelled by client");
+        assertThat(interrupted.get(10, TimeUnit.SECONDS)).isTrue();
+        // A future failed with a CancellationException throws it as it is
+        assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(CancellationException.class)
+                .hasMessageContaining("cancelled by client");
+    }
+
+    @Test
+    void cancelsOnlyTheCallsOfTheDisconnectedClient() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CompletableFuture<String> alice = dispatch("1", "alice", () -> {
+            started.countDown();
+            Thread.sleep(60_000);
+            return "alice";
+        });
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> bob = dispatch("1", "bob", () -> {
+            started.countDown();
+            release.await();
+            return "bob";
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        cancellation.cancelAll("alice", "client disconnected");
+        assertThatThrownBy(() -> alice.get(10, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+        assertThat(bob).isNotDone();
+        release.countDown();
+        assertThat(bob.get(10, TimeUnit.SECONDS)).isEqualTo("bob");
+    }
+
+    private CompletableFuture<String> dispatch(String requestId, String client, Callable<String> call) {
+        AtomicReference<Mono<String>> handler = new AtomicReference<>();
+        McpRequestContext.dispatch(new McpRequestContext.Request(requestId, client),
+                () -> handler.set(cancellation.cancellable(call, Schedulers.boundedElastic())));
+        return handler.get().timeout(Duration.ofSeconds(30)).toFuture();
+    }
+}